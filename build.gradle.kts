@@ -3,6 +3,7 @@ plugins {
     id("com.gradleup.shadow") version "8.3.7"
     id("io.micronaut.aot") version "4.5.4"
     id("io.micronaut.test-resources") version "4.4.2"
+    id("me.champeau.jmh") version "0.7.3"
 
     kotlin("jvm") version "1.9.25"
     kotlin("plugin.allopen") version "1.9.25"
@@ -16,6 +17,14 @@ repositories {
     mavenCentral()
 }
 
+// HTTP load tests against the embedded server: ./gradlew loadTest -Pload.duration=60s -Pload.concurrency=128
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+configurations["loadTestImplementation"].extendsFrom(configurations["implementation"])
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
+
 dependencies {
     // Micronaut Core
     kapt("io.micronaut:micronaut-http-validation")
@@ -29,8 +38,19 @@ dependencies {
     implementation("io.micronaut:micronaut-http-client")
     implementation("io.micronaut:micronaut-jackson-databind")
     implementation("io.micronaut.serde:micronaut-serde-jackson")
+    // CBOR / Smile bodies (versions from the Micronaut platform's Jackson BOM)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     implementation("io.micronaut.sql:micronaut-jdbc-hikari")
     implementation("io.micronaut.data:micronaut-data-jdbc")
+
+    // Caching
+    implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
+
+    // Metrics
+    implementation("io.micronaut.micrometer:micronaut-micrometer-core")
+    implementation("io.micronaut:micronaut-management")
+    implementation("io.micronaut.micrometer:micronaut-micrometer-registry-prometheus")
     
     // Database
     runtimeOnly("com.h2database:h2")
@@ -49,6 +69,12 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
     testImplementation("org.assertj:assertj-core:3.24.2")
+
+    // Load testing
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadTestImplementation"("org.junit.jupiter:junit-jupiter-api")
+    "loadTestRuntimeOnly"("org.junit.jupiter:junit-jupiter-engine")
+    "loadTestRuntimeOnly"("org.junit.platform:junit-platform-launcher")
 }
 
 
@@ -84,10 +110,38 @@ micronaut {
     } */
 }
 
+jmh {
+    fork = 1
+    warmupIterations = 2
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    // ./gradlew jmh -PjmhIncludes=DogRepositoryBenchmark -PjmhParams=rosterSize=1000000
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+    (findProperty("jmhParams") as String?)?.let { params ->
+        benchmarkParameters.set(params.split(";").associate { param ->
+            val (name, values) = param.split("=", limit = 2)
+            name to objects.listProperty<String>().value(values.split(","))
+        })
+    }
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.register<Test>("loadTest") {
+    group = "verification"
+    description = "Runs the mixed-workload HTTP load test and fails on threshold regressions."
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    shouldRunAfter(tasks.test)
+    outputs.upToDateWhen { false }
+    testLogging.showStandardStreams = true
+    systemProperty("load.report-dir", layout.buildDirectory.dir("reports/load").get().asFile.absolutePath)
+    providers.gradlePropertiesPrefixedBy("load.").get().forEach { (key, value) -> systemProperty(key, value) }
+}
+
 allOpen {
     annotation("io.micronaut.http.annotation.Controller")
     annotation("jakarta.inject.Singleton")
@@ -0,0 +1,63 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.entity.Dog;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.domain.mapper.DogMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions on the entity write/read path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DogMapperBenchmark {
+
+    private DogMapper dogMapper;
+    private Dog entity;
+    private DogDTO dto;
+    private Dog target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dogMapper = Mappers.getMapper(DogMapper.class);
+
+        dto = RosterGenerator.dog(42);
+        dto.setId(42L);
+        dto.setStatusId(4L);
+        dto.setLeavingDate(dto.getDateAcquired().plusYears(3));
+        dto.setLeavingReasonId(1L);
+
+        entity = dogMapper.toEntity(dto);
+        entity.setId(42L);
+        entity.setStatus(new DogStatus(4L, "Left"));
+        entity.setLeavingReason(new LeavingReason(1L, "Transferred"));
+        entity.setDeleted(false);
+        entity.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        entity.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+
+        target = dogMapper.toEntity(RosterGenerator.dog(43));
+    }
+
+    @Benchmark
+    public DogDTO toDTO() {
+        return dogMapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public Dog toEntity() {
+        return dogMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public Dog updateEntityFromDTO() {
+        dogMapper.updateEntityFromDTO(dto, target);
+        return target;
+    }
+}
@@ -0,0 +1,79 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.mapper.DogMapper;
+import com.task.dogs.repository.DogQueryRepository;
+import com.task.dogs.repository.DogRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity hydration + MapStruct read path against the single-query DTO projection.
+ * The entity side uses the inherited CRUD reads; the seeded roster has no deleted rows, so they
+ * return the same dogs as the projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogReadPathBenchmark {
+
+    @Param({"1000"})
+    int rosterSize;
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ApplicationContext context;
+    private DogRepository dogRepository;
+    private DogQueryRepository dogQueryRepository;
+    private DogMapper dogMapper;
+    private long sampleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:readPathBenchmark;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        dogRepository = context.getBean(DogRepository.class);
+        dogQueryRepository = context.getBean(DogQueryRepository.class);
+        dogMapper = context.getBean(DogMapper.class);
+
+        sampleId = RosterGenerator.seed(context, rosterSize) + rosterSize / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DogDTO> pageViaEntityAndMapper() {
+        return dogRepository.findAll(Pageable.from(0, pageSize))
+            .map(dogMapper::toDTO)
+            .getContent();
+    }
+
+    @Benchmark
+    public List<DogDTO> pageViaProjection() {
+        Pageable pageable = Pageable.from(0, pageSize);
+        return Page.of(dogQueryRepository.findPage(DogSearchCriteria.none(), pageable, pageSize), pageable,
+            dogQueryRepository.count(DogSearchCriteria.none())).getContent();
+    }
+
+    @Benchmark
+    public DogDTO byIdViaEntityAndMapper() {
+        return dogMapper.toDTO(dogRepository.findById(sampleId).orElseThrow());
+    }
+
+    @Benchmark
+    public DogDTO byIdViaProjection() {
+        return dogRepository.findDtoByIdNonDeleted(sampleId).orElseThrow();
+    }
+}
@@ -0,0 +1,90 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.repository.DogQueryRepository;
+import com.task.dogs.repository.DogRepository;
+import com.task.dogs.repository.DogSortField;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository queries against a seeded in-memory H2. Larger rosters are opt-in, e.g.
+ * {@code ./gradlew jmh -PjmhIncludes=DogRepositoryBenchmark -PjmhParams=rosterSize=1000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogRepositoryBenchmark {
+
+    @Param({"1000", "100000"})
+    int rosterSize;
+
+    @Param({"20"})
+    int pageSize;
+
+    private ApplicationContext context;
+    private DogRepository dogRepository;
+    private DogQueryRepository dogQueryRepository;
+    private long firstId;
+    private DogSearchCriteria breedFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:repositoryBenchmark" + rosterSize + ";LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        dogRepository = context.getBean(DogRepository.class);
+        dogQueryRepository = context.getBean(DogQueryRepository.class);
+        firstId = RosterGenerator.seed(context, rosterSize);
+
+        breedFilter = DogSearchCriteria.none();
+        breedFilter.setBreed("bloodhound");
+        breedFilter.setMatch(DogSearchCriteria.MATCH_PREFIX);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DogDTO findById() {
+        return dogRepository.findDtoByIdNonDeleted(randomId()).orElse(null);
+    }
+
+    @Benchmark
+    public Page<DogDTO> firstPageWithCount() {
+        Pageable pageable = Pageable.from(0, pageSize);
+        return Page.of(dogQueryRepository.findPage(DogSearchCriteria.none(), pageable, pageSize), pageable,
+            dogQueryRepository.count(DogSearchCriteria.none()));
+    }
+
+    @Benchmark
+    public List<DogDTO> deepOffsetPage() {
+        int lastPage = Math.max(0, rosterSize / pageSize - 1);
+        return dogQueryRepository.findPage(DogSearchCriteria.none(), Pageable.from(lastPage, pageSize), pageSize);
+    }
+
+    @Benchmark
+    public List<DogDTO> deepKeysetPage() {
+        long afterId = firstId + rosterSize - pageSize - 1;
+        return dogQueryRepository.findKeysetPage(DogSearchCriteria.none(), DogSortField.ID, false, afterId, afterId, pageSize);
+    }
+
+    @Benchmark
+    public long filteredCount() {
+        return dogQueryRepository.count(breedFilter);
+    }
+
+    private long randomId() {
+        return firstId + ThreadLocalRandom.current().nextInt(rosterSize);
+    }
+}
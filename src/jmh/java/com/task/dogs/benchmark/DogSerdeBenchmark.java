@@ -0,0 +1,80 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micronaut Serde cost of the response bodies: a single dog and a page of dogs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DogSerdeBenchmark {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Argument<Page<DogDTO>> PAGE_TYPE = (Argument) Argument.of(Page.class, DogDTO.class);
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ApplicationContext context;
+    private JsonMapper jsonMapper;
+    private DogDTO dog;
+    private byte[] dogJson;
+    private Page<DogDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:serdeBenchmark;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        jsonMapper = context.getBean(JsonMapper.class);
+
+        dog = withServerFields(RosterGenerator.dog(0), 1);
+        dogJson = jsonMapper.writeValueAsBytes(dog);
+
+        List<DogDTO> content = RosterGenerator.roster(0, pageSize);
+        for (int i = 0; i < content.size(); i++) {
+            withServerFields(content.get(i), i + 1);
+        }
+        page = Page.of(content, Pageable.from(0, pageSize), 10_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeDog() throws IOException {
+        return jsonMapper.writeValueAsBytes(dog);
+    }
+
+    @Benchmark
+    public DogDTO deserializeDog() throws IOException {
+        return jsonMapper.readValue(dogJson, DogDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return jsonMapper.writeValueAsBytes(PAGE_TYPE, page);
+    }
+
+    private static DogDTO withServerFields(DogDTO dog, long id) {
+        dog.setId(id);
+        dog.setStatusName("In Service");
+        dog.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+        return dog;
+    }
+}
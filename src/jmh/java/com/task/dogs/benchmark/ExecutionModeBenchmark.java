@@ -0,0 +1,77 @@
+package com.task.dogs.benchmark;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency distribution of HTTP reads with controllers on the shared blocking
+ * executor versus bounded virtual threads ({@code dogs.execution.mode}), under more concurrent
+ * clients than there are pooled connections. Run with {@code -prof gc} to compare allocation;
+ * the sample-time mode reports p99/p99.9 for the tail.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class ExecutionModeBenchmark {
+
+    @Param({"blocking", "virtual"})
+    String mode;
+
+    @Param({"1000"})
+    int rosterSize;
+
+    private ApplicationContext context;
+    private HttpClient client;
+    private String baseUri;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "micronaut.server.port", -1,
+            "dogs.execution.mode", mode,
+            "datasources.default.url", "jdbc:h2:mem:executionMode" + mode + ";LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        EmbeddedServer server = context.getBean(EmbeddedServer.class).start();
+        baseUri = server.getURI().resolve("/api/dogs/dogs").toString();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        firstId = RosterGenerator.seed(context, rosterSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        long id = firstId + ThreadLocalRandom.current().nextInt(rosterSize);
+        return get("/" + id);
+    }
+
+    @Benchmark
+    public int listPage() throws IOException, InterruptedException {
+        return get("?page=" + ThreadLocalRandom.current().nextInt(rosterSize / 20) + "&size=20");
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
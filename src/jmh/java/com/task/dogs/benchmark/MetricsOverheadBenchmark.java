@@ -0,0 +1,73 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.repository.DogRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the always-on instrumentation: the same repository call and HTTP request with the
+ * repository query timers and the {@code http.server.requests} filter switched on and off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricsOverheadBenchmark {
+
+    @Param({"true", "false"})
+    String instrumented;
+
+    @Param({"1000"})
+    int rosterSize;
+
+    private ApplicationContext context;
+    private DogRepository dogRepository;
+    private HttpClient client;
+    private String baseUri;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "micronaut.server.port", -1,
+            "dogs.metrics.repository.enabled", instrumented,
+            "micronaut.metrics.binders.web.enabled", instrumented,
+            "datasources.default.url", "jdbc:h2:mem:metricsOverhead" + instrumented + ";LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        dogRepository = context.getBean(DogRepository.class);
+        EmbeddedServer server = context.getBean(EmbeddedServer.class).start();
+        baseUri = server.getURI().resolve("/api/dogs/dogs").toString();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        firstId = RosterGenerator.seed(context, rosterSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DogDTO repositoryFindById() {
+        return dogRepository.findDtoByIdNonDeleted(randomId()).orElse(null);
+    }
+
+    @Benchmark
+    public int httpGetById() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + "/" + randomId())).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    private long randomId() {
+        return firstId + ThreadLocalRandom.current().nextInt(rosterSize);
+    }
+}
@@ -0,0 +1,85 @@
+package com.task.dogs.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.dogs.codec.BinaryCodecs;
+import com.task.dogs.domain.dto.DogDTO;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a page of dogs as JSON (Micronaut Serde, the default response path)
+ * against CBOR and Smile (Jackson binary mappers with compact dates). Encoded sizes are printed
+ * once per trial, e.g. {@code ./gradlew jmh -PjmhIncludes=PayloadFormatBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final Argument<List<DogDTO>> LIST_TYPE = Argument.listOf(DogDTO.class);
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"100"})
+    int pageSize;
+
+    private ApplicationContext context;
+    private JsonMapper jsonMapper;
+    private ObjectMapper binaryMapper;
+    private JavaType binaryListType;
+    private List<DogDTO> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:payloadFormatBenchmark;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        jsonMapper = context.getBean(JsonMapper.class);
+        BinaryCodecs codecs = context.getBean(BinaryCodecs.class);
+        binaryMapper = switch (format) {
+            case "cbor" -> codecs.cbor();
+            case "smile" -> codecs.smile();
+            default -> null;
+        };
+        if (binaryMapper != null) {
+            binaryListType = binaryMapper.getTypeFactory().constructCollectionType(List.class, DogDTO.class);
+        }
+
+        page = RosterGenerator.roster(0, pageSize);
+        for (int i = 0; i < page.size(); i++) {
+            DogDTO dog = page.get(i);
+            dog.setId(i + 1L);
+            dog.setStatusName("In Service");
+            dog.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+            dog.setVersion(3L);
+        }
+        encoded = encodePage();
+        System.out.printf("%n%s: %d dogs encode to %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return binaryMapper == null ? jsonMapper.writeValueAsBytes(LIST_TYPE, page) : binaryMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<DogDTO> decodePage() throws IOException {
+        return binaryMapper == null ? jsonMapper.readValue(encoded, LIST_TYPE) : binaryMapper.readValue(encoded, binaryListType);
+    }
+}
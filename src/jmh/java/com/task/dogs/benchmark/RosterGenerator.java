@@ -0,0 +1,87 @@
+package com.task.dogs.benchmark;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.repository.DogWriteRepository;
+import com.task.dogs.service.DogCountCache;
+import com.task.dogs.service.DogTextIndex;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.transaction.TransactionOperations;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic roster for benchmarks: the same index always yields the same dog, so
+ * runs are comparable. Seeding goes through {@link DogWriteRepository} in batched transactions,
+ * which loads a million dogs in seconds rather than the minutes one save per dog would take.
+ */
+final class RosterGenerator {
+
+    private static final String[] SYLLABLES = {"ka", "ro", "bel", "max", "ti", "zu", "ne", "lo", "dra", "fen", "qu", "ox"};
+    private static final String[] BREEDS = {"German Shepherd", "Belgian Malinois", "Labrador Retriever",
+        "Springer Spaniel", "Dutch Shepherd", "Cocker Spaniel", "Bloodhound", "Border Collie"};
+    private static final String[] TRAITS = {"Calm in kennel", "Reactive to other dogs on lead", "High prey drive",
+        "Vocal at feeding time", "Settles quickly", "Needs a solo run"};
+    private static final int SEED_BATCH = 1000;
+
+    private RosterGenerator() {
+    }
+
+    static DogDTO dog(int index) {
+        SplittableRandom random = new SplittableRandom(index);
+        DogDTO dog = new DogDTO();
+        dog.setName(name(random) + " " + name(random));
+        dog.setBreed(BREEDS[random.nextInt(BREEDS.length)]);
+        dog.setSupplier("Supplier " + random.nextInt(250));
+        dog.setBadgeId("K9-" + index);
+        dog.setGender(random.nextBoolean() ? "Male" : "Female");
+        dog.setBirthDate(LocalDate.of(2012, 1, 1).plusDays(random.nextInt(4000)));
+        dog.setDateAcquired(dog.getBirthDate().plusDays(300 + random.nextInt(700)));
+        if (random.nextInt(20) == 0) {
+            dog.setStatusId(4L);
+            dog.setLeavingDate(dog.getDateAcquired().plusDays(365 + random.nextInt(2000)));
+            dog.setLeavingReasonId(1L + random.nextInt(3));
+        } else {
+            dog.setStatusId(1L + random.nextInt(3));
+        }
+        dog.setKennellingCharacteristic(TRAITS[random.nextInt(TRAITS.length)]);
+        return dog;
+    }
+
+    static List<DogDTO> roster(int from, int count) {
+        List<DogDTO> dogs = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            dogs.add(dog(i));
+        }
+        return dogs;
+    }
+
+    /**
+     * Inserts {@code size} dogs and brings the in-memory search index and count cache up to date.
+     * Returns the id of the first inserted dog; ids of the rest follow consecutively.
+     */
+    @SuppressWarnings("unchecked")
+    static long seed(ApplicationContext context, int size) {
+        DogWriteRepository writeRepository = context.getBean(DogWriteRepository.class);
+        TransactionOperations<Connection> transactions = context.getBean(TransactionOperations.class);
+        long firstId = -1;
+        for (int from = 0; from < size; from += SEED_BATCH) {
+            List<DogDTO> batch = roster(from, Math.min(SEED_BATCH, size - from));
+            long[] ids = transactions.executeWrite(status -> writeRepository.insertAll(batch));
+            if (firstId < 0) {
+                firstId = ids[0];
+            }
+        }
+        context.getBean(DogTextIndex.class).rebuild();
+        context.getBean(DogCountCache.class).invalidateAll();
+        return firstId;
+    }
+
+    private static String name(SplittableRandom random) {
+        String name = SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)];
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,277 @@
+package com.task.dogs.load;
+
+import com.task.dogs.domain.dto.DogDTO;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a weighted mix of create / get / search / update / delete requests against the real
+ * HTTP API on an embedded H2, from {@code load.concurrency} virtual-thread clients, then fails if
+ * latency, throughput or error-rate thresholds are missed. See {@link LoadTestConfig} for the knobs.
+ * <p>
+ * Clients are closed-loop (each sends its next request when the previous one returns), so under
+ * saturation latencies understate what an open-loop arrival rate would see.
+ */
+class DogApiLoadTest {
+
+    private static final String[] BREEDS = {"German Shepherd", "Belgian Malinois", "Labrador Retriever",
+        "Springer Spaniel", "Dutch Shepherd", "Cocker Spaniel", "Bloodhound", "Border Collie"};
+    private static final String BASE = "/api/dogs/dogs";
+
+    @Test
+    void mixedWorkloadMeetsThresholds() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer.class, Map.of(
+            "micronaut.server.port", -1,
+            "datasources.default.url", "jdbc:h2:mem:loadTest;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE"
+        ));
+        try (HttpClient client = HttpClient.create(server.getURL())) {
+            BlockingHttpClient http = client.toBlocking();
+            IdPool ids = new IdPool();
+            seed(http, ids, config);
+
+            run(http, ids, config, config.warmup(), new Results());
+            Results results = new Results();
+            run(http, ids, config, config.duration(), results);
+
+            report(results, config);
+            assertThresholds(results, config);
+        } finally {
+            server.getApplicationContext().close();
+        }
+    }
+
+    private void seed(BlockingHttpClient http, IdPool ids, LoadTestConfig config) {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.seedDogs(); i++) {
+                int index = i;
+                clients.submit(() -> ids.add(http.retrieve(HttpRequest.POST(BASE, dog(index)), DogDTO.class).getId()));
+            }
+        }
+    }
+
+    private void run(BlockingHttpClient http, IdPool ids, LoadTestConfig config, Duration duration, Results results) {
+        Operation[] schedule = schedule(config.mix());
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong sequence = new AtomicLong(config.seedDogs());
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < config.concurrency(); c++) {
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation op = schedule[random.nextInt(schedule.length)];
+                        long begin = System.nanoTime();
+                        Outcome outcome = execute(http, ids, op, sequence, random);
+                        results.record(op, outcome, System.nanoTime() - begin);
+                    }
+                });
+            }
+        }
+        results.elapsedNanos = System.nanoTime() - start;
+    }
+
+    private Outcome execute(BlockingHttpClient http, IdPool ids, Operation op, AtomicLong sequence,
+                            ThreadLocalRandom random) {
+        Long id = null;
+        try {
+            switch (op) {
+                case CREATE -> ids.add(http.retrieve(HttpRequest.POST(BASE, dog(sequence.incrementAndGet())), DogDTO.class).getId());
+                case GET -> {
+                    id = ids.pick(random);
+                    http.retrieve(HttpRequest.GET(BASE + "/" + id), String.class);
+                }
+                case SEARCH -> http.retrieve(HttpRequest.GET(BASE + "?match=prefix&size=20&breed="
+                    + BREEDS[random.nextInt(BREEDS.length)].substring(0, 4).replace(" ", "%20")), String.class);
+                case UPDATE -> {
+                    id = ids.pick(random);
+                    http.retrieve(HttpRequest.PUT(BASE + "/" + id, dog(random.nextInt(1_000_000))), String.class);
+                }
+                case DELETE -> {
+                    id = ids.take(random);
+                    http.exchange(HttpRequest.DELETE(BASE + "/" + id));
+                }
+            }
+            return Outcome.OK;
+        } catch (HttpClientResponseException e) {
+            // Another client deleted the dog between pick and request
+            return e.getStatus() == HttpStatus.NOT_FOUND && id != null ? Outcome.RACED : Outcome.ERROR;
+        } catch (RuntimeException e) {
+            return Outcome.ERROR;
+        }
+    }
+
+    private void report(Results results, LoadTestConfig config) throws IOException {
+        Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+        Files.createDirectories(reportDir);
+        double seconds = results.elapsedNanos / 1e9;
+
+        System.out.printf("%nLoad test: %d clients for %s, mix %s%n", config.concurrency(), config.duration(), config.mix());
+        System.out.printf("%-8s %10s %10s %9s %9s %9s %9s %7s %7s%n",
+            "op", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "raced", "errors");
+        for (Operation op : Operation.values()) {
+            Histogram histogram = results.histogram(op);
+            print(op.name().toLowerCase(), histogram, seconds, results.raced(op), results.errors(op));
+            writeHgrm(reportDir.resolve(op.name().toLowerCase() + ".hgrm"), histogram);
+        }
+        Histogram total = results.total();
+        print("total", total, seconds, results.totalRaced(), results.totalErrors());
+        writeHgrm(reportDir.resolve("total.hgrm"), total);
+        System.out.printf("Histograms written to %s%n", reportDir.toAbsolutePath());
+    }
+
+    private void assertThresholds(Results results, LoadTestConfig config) {
+        Histogram total = results.total();
+        double p99 = total.getValueAtPercentile(99.0) / 1000.0;
+        double p999 = total.getValueAtPercentile(99.9) / 1000.0;
+        double throughput = total.getTotalCount() / (results.elapsedNanos / 1e9);
+        double errorRate = total.getTotalCount() == 0 ? 0 : (double) results.totalErrors() / total.getTotalCount();
+        assertAll(
+            () -> assertTrue(total.getTotalCount() > 0, "No requests completed"),
+            () -> assertTrue(p99 <= config.maxP99Millis(), "p99 " + p99 + " ms exceeds " + config.maxP99Millis() + " ms"),
+            () -> assertTrue(p999 <= config.maxP999Millis(), "p999 " + p999 + " ms exceeds " + config.maxP999Millis() + " ms"),
+            () -> assertTrue(throughput >= config.minThroughput(), "Throughput " + throughput + " req/s below " + config.minThroughput()),
+            () -> assertTrue(errorRate <= config.maxErrorRate(), "Error rate " + errorRate + " exceeds " + config.maxErrorRate())
+        );
+    }
+
+    private static void print(String label, Histogram histogram, double seconds, long raced, long errors) {
+        System.out.printf("%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+            label,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50.0) / 1000.0,
+            histogram.getValueAtPercentile(99.0) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0,
+            raced,
+            errors);
+    }
+
+    private static void writeHgrm(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // Values are recorded in microseconds; report in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    /**
+     * Flattens the weights into a lookup table so picking an operation is one random index.
+     */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(op);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no positive weights");
+        }
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static DogDTO dog(long index) {
+        DogDTO dog = new DogDTO();
+        dog.setName("Load" + index);
+        dog.setBreed(BREEDS[(int) (index % BREEDS.length)]);
+        dog.setSupplier("Supplier " + index % 50);
+        dog.setBadgeId("LT-" + index);
+        dog.setGender(index % 2 == 0 ? "Male" : "Female");
+        dog.setBirthDate(LocalDate.of(2016, 1, 1).plusDays(index % 2000));
+        dog.setDateAcquired(LocalDate.of(2019, 1, 1).plusDays(index % 1000));
+        dog.setStatusId(1L + index % 3);
+        dog.setKennellingCharacteristic("Generated by the load test");
+        return dog;
+    }
+
+    private enum Outcome {
+        OK,
+        RACED,
+        ERROR
+    }
+
+    /**
+     * Per-operation latency recorders (microseconds) and outcome counters.
+     */
+    private static final class Results {
+
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> raced = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private long elapsedNanos;
+
+        Results() {
+            for (Operation op : Operation.values()) {
+                recorders.put(op, new Recorder(3));
+                raced.put(op, new LongAdder());
+                errors.put(op, new LongAdder());
+            }
+        }
+
+        void record(Operation op, Outcome outcome, long nanos) {
+            switch (outcome) {
+                case OK -> recorders.get(op).recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+                case RACED -> raced.get(op).increment();
+                case ERROR -> errors.get(op).increment();
+            }
+        }
+
+        Histogram histogram(Operation op) {
+            return histograms.computeIfAbsent(op, key -> recorders.get(key).getIntervalHistogram());
+        }
+
+        Histogram total() {
+            Histogram total = new Histogram(3);
+            for (Operation op : Operation.values()) {
+                total.add(histogram(op));
+            }
+            return total;
+        }
+
+        long raced(Operation op) {
+            return raced.get(op).sum();
+        }
+
+        long errors(Operation op) {
+            return errors.get(op).sum();
+        }
+
+        long totalRaced() {
+            return raced.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.task.dogs.load;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids of dogs the load test believes exist, for picking get/update/delete targets at random.
+ * Deletes remove their target, so a concurrent get or update can still race a delete.
+ */
+final class IdPool {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    synchronized void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    synchronized long pick(ThreadLocalRandom random) {
+        if (size == 0) {
+            throw new NoSuchElementException("No dogs left to pick");
+        }
+        return ids[random.nextInt(size)];
+    }
+
+    synchronized long take(ThreadLocalRandom random) {
+        if (size == 0) {
+            throw new NoSuchElementException("No dogs left to delete");
+        }
+        int index = random.nextInt(size);
+        long id = ids[index];
+        ids[index] = ids[--size];
+        return id;
+    }
+}
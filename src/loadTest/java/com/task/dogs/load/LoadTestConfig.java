@@ -0,0 +1,49 @@
+package com.task.dogs.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code load.*} system properties (the {@code loadTest} Gradle
+ * task forwards {@code -Pload.*} project properties).
+ */
+record LoadTestConfig(Duration warmup,
+                      Duration duration,
+                      int concurrency,
+                      int seedDogs,
+                      Map<Operation, Integer> mix,
+                      double maxP99Millis,
+                      double maxP999Millis,
+                      double minThroughput,
+                      double maxErrorRate) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Duration.parse("PT" + System.getProperty("load.warmup", "5s").toUpperCase()),
+            Duration.parse("PT" + System.getProperty("load.duration", "30s").toUpperCase()),
+            Integer.getInteger("load.concurrency", 64),
+            Integer.getInteger("load.seed-dogs", 5000),
+            parseMix(System.getProperty("load.mix", "create:10,get:50,search:25,update:10,delete:5")),
+            Double.parseDouble(System.getProperty("load.max-p99-ms", "250")),
+            Double.parseDouble(System.getProperty("load.max-p999-ms", "1000")),
+            Double.parseDouble(System.getProperty("load.min-throughput", "0")),
+            Double.parseDouble(System.getProperty("load.max-error-rate", "0"))
+        );
+    }
+
+    /**
+     * Parses {@code op:weight,op:weight,...}; operations left out get weight 0.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected op:weight in load.mix, got '" + entry + "'");
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,12 @@
+package com.task.dogs.load;
+
+/**
+ * The request types a load test mixes.
+ */
+enum Operation {
+    CREATE,
+    GET,
+    SEARCH,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,64 @@
+package com.task.dogs.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micronaut.http.MediaType;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+/**
+ * CBOR and Smile mappers. Both are copies of the application's Jackson {@link ObjectMapper}, so
+ * they see the same modules, bean introspections and annotations as JSON, with dates written
+ * compactly (see {@link CompactDatesModule}).
+ */
+@Singleton
+public class BinaryCodecs {
+
+    private final ObjectMapper cbor;
+    private final ObjectMapper smile;
+
+    public BinaryCodecs(ObjectMapper objectMapper) {
+        this.cbor = configure(objectMapper.copyWith(new CBORFactory()));
+        this.smile = configure(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        // Handlers write to and read from streams the HTTP layer owns
+        return mapper.registerModule(new CompactDatesModule())
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+    }
+
+    public ObjectMapper cbor() {
+        return cbor;
+    }
+
+    public ObjectMapper smile() {
+        return smile;
+    }
+
+    /**
+     * The mapper for a binary media type, or {@code null} if it isn't CBOR or Smile.
+     */
+    public ObjectMapper mapperFor(MediaType mediaType) {
+        if (BinaryMediaTypes.APPLICATION_CBOR.equals(mediaType.getName())) {
+            return cbor;
+        }
+        if (BinaryMediaTypes.APPLICATION_SMILE.equals(mediaType.getName())) {
+            return smile;
+        }
+        return null;
+    }
+
+    public byte[] encode(MediaType mediaType, Object value) throws IOException {
+        ObjectMapper mapper = mapperFor(mediaType);
+        if (mapper == null) {
+            throw new IllegalArgumentException("Not a binary media type: " + mediaType);
+        }
+        return mapper.writeValueAsBytes(value);
+    }
+}
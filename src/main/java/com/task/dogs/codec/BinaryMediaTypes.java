@@ -0,0 +1,50 @@
+package com.task.dogs.codec;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary alternatives to JSON that dog payloads can be negotiated as with {@code Accept} and
+ * sent as with {@code Content-Type}.
+ */
+public final class BinaryMediaTypes {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.of(APPLICATION_CBOR);
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.of(APPLICATION_SMILE);
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * The first of JSON, CBOR or Smile the request accepts, in its order of preference ({@code q}
+     * first, then header order); JSON if it names none of them. Callers set the result as the
+     * response's content type, so the body is written in the same encoding its validators name.
+     */
+    public static MediaType negotiate(HttpRequest<?> request) {
+        List<MediaType> preferred = new ArrayList<>(request.accept());
+        preferred.sort(Comparator.comparing(MediaType::getQualityAsNumber).reversed());
+        for (MediaType accepted : preferred) {
+            if (accepted.getQualityAsNumber().signum() == 0) {
+                continue;
+            }
+            // Binary formats only when named: a wildcard means the client expects JSON
+            if (accepted.getName().equals(APPLICATION_CBOR)) {
+                return APPLICATION_CBOR_TYPE;
+            }
+            if (accepted.getName().equals(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE_TYPE;
+            }
+            if (accepted.matches(MediaType.APPLICATION_JSON_TYPE)) {
+                return MediaType.APPLICATION_JSON_TYPE;
+            }
+        }
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.task.dogs.codec;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Produces(BinaryMediaTypes.APPLICATION_CBOR)
+@Consumes(BinaryMediaTypes.APPLICATION_CBOR)
+public final class CborBodyHandler<T> extends JacksonBinaryBodyHandler<T> {
+
+    public CborBodyHandler(BinaryCodecs codecs) {
+        super(codecs.cbor(), BinaryMediaTypes.APPLICATION_CBOR_TYPE);
+    }
+}
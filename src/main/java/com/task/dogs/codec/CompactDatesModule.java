@@ -0,0 +1,57 @@
+package com.task.dogs.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Writes {@link LocalDate} as its epoch day, an integer of at most three bytes in CBOR or Smile,
+ * instead of the 10-character {@code yyyy-MM-dd} string JSON uses; this overrides
+ * {@code @JsonFormat} patterns. Reads either form.
+ */
+final class CompactDatesModule extends SimpleModule {
+
+    CompactDatesModule() {
+        super("CompactDates");
+        addSerializer(LocalDate.class, new EpochDaySerializer());
+        addDeserializer(LocalDate.class, new EpochDayDeserializer());
+    }
+
+    private static final class EpochDaySerializer extends StdScalarSerializer<LocalDate> {
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    private static final class EpochDayDeserializer extends StdScalarDeserializer<LocalDate> {
+
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return LocalDate.parse(p.getText());
+            }
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.task.dogs.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.Headers;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.body.MessageBodyHandler;
+import io.micronaut.http.codec.CodecException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Reads and writes request and response bodies with a binary Jackson mapper. Raw bodies
+ * ({@code byte[]}, strings, buffers) are left to Micronaut's own handlers, so an already encoded
+ * payload is sent as is.
+ */
+abstract class JacksonBinaryBodyHandler<T> implements MessageBodyHandler<T> {
+
+    private final ObjectMapper mapper;
+    private final MediaType mediaType;
+
+    JacksonBinaryBodyHandler(ObjectMapper mapper, MediaType mediaType) {
+        this.mapper = mapper;
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean isReadable(Argument<T> type, MediaType mediaType) {
+        return !isRaw(type);
+    }
+
+    @Override
+    public boolean isWriteable(Argument<T> type, MediaType mediaType) {
+        return !isRaw(type);
+    }
+
+    @Override
+    public T read(Argument<T> type, MediaType mediaType, Headers httpHeaders, InputStream inputStream) throws CodecException {
+        try {
+            return mapper.readValue(inputStream, mapper.constructType(type.asType()));
+        } catch (IOException e) {
+            throw new CodecException("Error decoding " + this.mediaType + " body: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void writeTo(Argument<T> type, MediaType mediaType, T object, MutableHeaders outgoingHeaders,
+                        OutputStream outputStream) throws CodecException {
+        if (!outgoingHeaders.contains(HttpHeaders.CONTENT_TYPE)) {
+            outgoingHeaders.set(HttpHeaders.CONTENT_TYPE, this.mediaType);
+        }
+        try {
+            mapper.writeValue(outputStream, object);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding " + this.mediaType + " body: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isRaw(Argument<?> type) {
+        Class<?> javaType = type.getType();
+        return javaType == byte[].class
+            || CharSequence.class.isAssignableFrom(javaType)
+            || ByteBuffer.class.isAssignableFrom(javaType)
+            || java.nio.ByteBuffer.class.isAssignableFrom(javaType);
+    }
+}
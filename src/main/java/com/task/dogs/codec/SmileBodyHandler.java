@@ -0,0 +1,15 @@
+package com.task.dogs.codec;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Produces(BinaryMediaTypes.APPLICATION_SMILE)
+@Consumes(BinaryMediaTypes.APPLICATION_SMILE)
+public final class SmileBodyHandler<T> extends JacksonBinaryBodyHandler<T> {
+
+    public SmileBodyHandler(BinaryCodecs codecs) {
+        super(codecs.smile(), BinaryMediaTypes.APPLICATION_SMILE_TYPE);
+    }
+}
@@ -0,0 +1,49 @@
+package com.task.dogs.config;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The executor the controllers that use the database run on
+ * ({@code @ExecuteOn(DogExecutorFactory.DOGS)}), chosen by {@code dogs.execution.mode}:
+ * <ul>
+ *     <li>{@code blocking} (default, or anything but {@code virtual}): Micronaut's shared blocking executor.</li>
+ *     <li>{@code virtual}: a virtual thread per request, at most
+ *     {@code dogs.execution.max-concurrent} of them running at once (keep it at or below the
+ *     connection pool size) so they can't stampede the pool; the rest park until a slot frees up.</li>
+ * </ul>
+ * Endpoints answered from memory (lookups, stats) stay off it so they never queue behind the bound.
+ */
+@Factory
+public class DogExecutorFactory {
+
+    public static final String DOGS = "dogs";
+    public static final String MODE_PROPERTY = "dogs.execution.mode";
+    public static final String MODE_VIRTUAL = "virtual";
+
+    @Singleton
+    @Named(DOGS)
+    @Requires(property = MODE_PROPERTY, value = MODE_VIRTUAL)
+    @Bean(preDestroy = "shutdown")
+    ExecutorService virtualThreadExecutor(@Value("${dogs.execution.max-concurrent:10}") int maxConcurrent) {
+        return new BoundedExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dogs-virtual-", 0).factory()),
+            maxConcurrent
+        );
+    }
+
+    @Singleton
+    @Named(DOGS)
+    @Requires(property = MODE_PROPERTY, notEquals = MODE_VIRTUAL)
+    ExecutorService blockingExecutor(@Named(TaskExecutors.BLOCKING) ExecutorService blockingExecutor) {
+        return blockingExecutor;
+    }
+}
@@ -0,0 +1,56 @@
+package com.task.dogs.controller;
+
+import com.task.dogs.config.DogExecutorFactory;
+import com.task.dogs.domain.dto.ArchiveRun;
+import com.task.dogs.domain.dto.CursorPage;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.service.DogArchiver;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+
+/**
+ * Admin access to dogs moved out of the hot table by {@link DogArchiver}.
+ */
+@Controller("/admin/archive")
+@ExecuteOn(DogExecutorFactory.DOGS)
+@Requires(beans = DogArchiver.class)
+public class DogArchiveController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final DogArchiver archiver;
+
+    public DogArchiveController(DogArchiver archiver) {
+        this.archiver = archiver;
+    }
+
+    @Get("/dogs")
+    @Produces("application/json")
+    public HttpResponse<CursorPage<DogDTO>> getArchivedDogs(@Nullable @QueryValue Long after,
+                                                            @QueryValue(defaultValue = "100") int size) {
+        return HttpResponse.ok(archiver.getArchivedDogs(after, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    @Get("/dogs/{id}")
+    @Produces("application/json")
+    public HttpResponse<DogDTO> getArchivedDog(@PathVariable Long id) {
+        return HttpResponse.ok(archiver.getArchivedDog(id));
+    }
+
+    /**
+     * Runs archival now instead of waiting for the schedule; {@code 409} if a run is in progress.
+     */
+    @Post("/run")
+    @Produces("application/json")
+    public HttpResponse<ArchiveRun> run() {
+        return HttpResponse.ok(archiver.archiveNow());
+    }
+}
@@ -1,69 +1,216 @@
 package com.task.dogs.controller;
 
+import com.task.dogs.codec.BinaryMediaTypes;
+import com.task.dogs.config.DogExecutorFactory;
+import com.task.dogs.domain.dto.BatchResult;
 import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogPatch;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.dto.RosterStats;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.service.DogBatchService;
+import com.task.dogs.service.DogChangeFeed;
+import com.task.dogs.service.DogExportService;
 import com.task.dogs.service.DogService;
-import io.micronaut.data.model.Page;
+import com.task.dogs.service.DogStats;
+import com.task.dogs.service.DogSyncService;
+import com.task.dogs.service.DogSyncToken;
+import com.task.dogs.service.ResourceVersion;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.http.sse.Event;
+import io.micronaut.json.tree.JsonNode;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import org.reactivestreams.Publisher;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Controller("/dogs")
+@ExecuteOn(DogExecutorFactory.DOGS)
+@Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+@Consumes({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
 public class DogController {
 
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RETURN_MINIMAL = "return=minimal";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
     private final DogService dogService;
+    private final DogBatchService dogBatchService;
+    private final DogExportService dogExportService;
+    private final DogStats dogStats;
+    private final DogChangeFeed dogChangeFeed;
+    private final DogSyncService dogSyncService;
 
-    public DogController(DogService dogService) {
+    public DogController(DogService dogService, DogBatchService dogBatchService, DogExportService dogExportService,
+                         DogStats dogStats, DogChangeFeed dogChangeFeed, DogSyncService dogSyncService) {
         this.dogService = dogService;
+        this.dogBatchService = dogBatchService;
+        this.dogExportService = dogExportService;
+        this.dogStats = dogStats;
+        this.dogChangeFeed = dogChangeFeed;
+        this.dogSyncService = dogSyncService;
     }
 
     @Post
-    @Consumes("application/json")
-    @Produces("application/json")
     public HttpResponse<DogDTO> createDog(@Valid @Body DogDTO dogDTO) {
         DogDTO createdDog = dogService.createDog(dogDTO);
         return HttpResponse.created(createdDog);
     }
 
+    @Post("/batch")
+    public HttpResponse<BatchResult> createDogs(@Body List<DogDTO> dogs) {
+        return HttpResponse.ok(dogBatchService.createDogs(dogs));
+    }
+
+    @Put("/batch")
+    public HttpResponse<BatchResult> updateDogs(@Body List<DogDTO> dogs) {
+        return HttpResponse.ok(dogBatchService.updateDogs(dogs));
+    }
+
     @Get
-    @Produces("application/json")
-    public HttpResponse<Page<DogDTO>> getAllDogs(
-            @QueryValue Optional<String> name,
-            @QueryValue Optional<String> breed,
-            @QueryValue Optional<String> supplier,
-            Pageable pageable) {
-        
-        Page<DogDTO> dogs;
-        
-        if (name.isPresent() || breed.isPresent() || supplier.isPresent()) {
-            dogs = dogService.searchDogs(
-                name.orElse(null),
-                breed.orElse(null),
-                supplier.orElse(null),
-                pageable
-            );
+    public HttpResponse<?> getAllDogs(
+            HttpRequest<?> request,
+            @RequestBean DogSearchCriteria criteria,
+            @QueryValue Optional<String> paging,
+            @QueryValue Optional<String> after,
+            @QueryValue Optional<String> updatedSince,
+            @QueryValue Optional<String> syncToken,
+            @QueryValue Optional<String> fields,
+            Pageable pageable,
+            @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch,
+            @Header(HttpHeaders.IF_MODIFIED_SINCE) Optional<String> ifModifiedSince) {
+
+        Set<DogField> selected = DogField.parse(fields.orElse(null));
+        MediaType contentType = BinaryMediaTypes.negotiate(request);
+        ResourceVersion version = dogService.getListingVersion(request.getUri().toString(), contentType);
+        if (version.notModified(ifNoneMatch, ifModifiedSince)) {
+            return revalidate(version.apply(HttpResponse.notModified()));
+        }
+
+        Object body;
+        if (updatedSince.isPresent() || syncToken.isPresent()) {
+            body = dogSyncService.changesSince(syncPosition(criteria, updatedSince, syncToken), pageable.getSize(), selected);
+        } else if (after.isPresent() || paging.filter("cursor"::equals).isPresent()) {
+            body = dogService.getDogsByCursor(criteria, pageable, after.orElse(null), selected);
+        } else if (paging.filter("slice"::equals).isPresent()) {
+            body = dogService.sliceDogs(criteria, pageable, selected);
         } else {
-            dogs = dogService.getAllDogs(pageable);
+            body = dogService.searchDogs(criteria, pageable, selected);
         }
-        
-        return HttpResponse.ok(dogs);
+        return revalidate(version.apply(HttpResponse.ok(body).contentType(contentType)));
+    }
+
+    /**
+     * Roster counts by status, breed, supplier, gender and leaving reason, from in-memory counters.
+     * Never touches the database, so it doesn't wait behind the bound on the {@code dogs} executor.
+     */
+    @Get("/stats")
+    @ExecuteOn(TaskExecutors.BLOCKING)
+    public HttpResponse<RosterStats> getStats() {
+        return HttpResponse.ok(dogStats.getStats());
+    }
+
+    @Get("/export")
+    @Produces("application/x-ndjson")
+    public Publisher<byte[]> exportDogs() {
+        return dogExportService.exportNdjson();
+    }
+
+    /**
+     * Server-Sent Events stream of committed creates, updates and deletes. Reconnecting with
+     * {@code Last-Event-ID} resumes after that change; a {@code resync} event means the changes
+     * since then are no longer buffered and the client should reload before reconnecting.
+     */
+    @Get("/changes")
+    @Produces(MediaType.TEXT_EVENT_STREAM)
+    public Publisher<Event<String>> streamChanges(@Header(LAST_EVENT_ID) Optional<String> lastEventId) {
+        return dogChangeFeed.subscribe(lastEventId.orElse(null));
     }
 
     @Get("/{id}")
-    @Produces("application/json")
-    public HttpResponse<DogDTO> getDogById(@PathVariable Long id) {
-        DogDTO dog = dogService.getDogById(id);
-        return HttpResponse.ok(dog);
+    public HttpResponse<DogDTO> getDogById(HttpRequest<?> request,
+                                           @PathVariable Long id,
+                                           @QueryValue Optional<String> fields,
+                                           @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch,
+                                           @Header(HttpHeaders.IF_MODIFIED_SINCE) Optional<String> ifModifiedSince) {
+        Set<DogField> selected = DogField.parse(fields.orElse(null));
+        DogDTO dog = dogService.getDogById(id, selected);
+        MediaType contentType = BinaryMediaTypes.negotiate(request);
+        ResourceVersion version = ResourceVersion.of(dog, selected, contentType);
+        if (version.notModified(ifNoneMatch, ifModifiedSince)) {
+            return revalidate(version.apply(HttpResponse.notModified()));
+        }
+        return revalidate(version.apply(HttpResponse.ok(DogField.project(dog, selected)).contentType(contentType)));
     }
 
     @Put("/{id}")
-    @Consumes("application/json")
-    @Produces("application/json")
-    public HttpResponse<DogDTO> updateDog(@PathVariable Long id, @Valid @Body DogDTO dogDTO) {
-        DogDTO updatedDog = dogService.updateDog(id, dogDTO);
-        return HttpResponse.ok(updatedDog);
+    public HttpResponse<DogDTO> updateDog(HttpRequest<?> request, @PathVariable Long id, @Valid @Body DogDTO dogDTO,
+                                         @Header(HttpHeaders.IF_MATCH) Optional<String> ifMatch) {
+        // If-Match (the ETag from a GET) takes precedence over a version in the body
+        Long expectedVersion = ifMatch.isPresent()
+            ? ResourceVersion.expectedVersion(ifMatch.get(), id)
+            : dogDTO.getVersion();
+        DogDTO updatedDog = dogService.updateDog(id, dogDTO, expectedVersion);
+        MediaType contentType = BinaryMediaTypes.negotiate(request);
+        return ResourceVersion.of(updatedDog, DogField.ALL, contentType)
+            .apply(HttpResponse.ok(updatedDog).contentType(contentType));
+    }
+
+    /**
+     * JSON Merge Patch: only the members present are written. {@code Prefer: return=minimal}
+     * answers {@code 204} with just the new {@code ETag} instead of the dog.
+     */
+    @Patch("/{id}")
+    @Consumes({MERGE_PATCH_JSON, "application/json"})
+    public HttpResponse<DogDTO> patchDog(HttpRequest<?> request, @PathVariable Long id, @Body JsonNode patch,
+                                        @Header(HttpHeaders.IF_MATCH) Optional<String> ifMatch,
+                                        @Header(PREFER) Optional<String> prefer) {
+        DogPatch dogPatch = DogPatch.fromJson(patch);
+        Long expectedVersion = ifMatch.isPresent()
+            ? ResourceVersion.expectedVersion(ifMatch.get(), id)
+            : dogPatch.getVersion();
+        DogDTO patchedDog = dogService.patchDog(id, dogPatch, expectedVersion);
+
+        MediaType contentType = BinaryMediaTypes.negotiate(request);
+        ResourceVersion version = ResourceVersion.of(patchedDog, DogField.ALL, contentType);
+        if (prefer.filter(value -> value.contains(RETURN_MINIMAL)).isPresent()) {
+            return version.apply(HttpResponse.<DogDTO>noContent().header(PREFERENCE_APPLIED, RETURN_MINIMAL));
+        }
+        return version.apply(HttpResponse.ok(patchedDog).contentType(contentType));
+    }
+
+    /**
+     * Bulk soft delete, either of the listed {@code ids} or of every dog matching the listing
+     * filters (e.g. {@code ?supplier=...}), in one statement.
+     */
+    @Delete
+    public HttpResponse<?> deleteDogs(@Nullable @QueryValue List<Long> ids, @RequestBean DogSearchCriteria criteria) {
+        if (ids != null && !ids.isEmpty()) {
+            if (criteria.hasFilters()) {
+                throw new BadRequestException("Delete either by ids or by filters, not both");
+            }
+            return HttpResponse.ok(dogBatchService.deleteDogs(ids));
+        }
+        return HttpResponse.ok(dogBatchService.deleteMatching(criteria));
+    }
+
+    @Post("/batch-delete")
+    public HttpResponse<BatchResult> deleteDogsById(@Body List<Long> ids) {
+        return HttpResponse.ok(dogBatchService.deleteDogs(ids));
     }
 
     @Delete("/{id}")
@@ -71,4 +218,28 @@ public class DogController {
         dogService.deleteDog(id);
         return HttpResponse.noContent();
     }
-}
\ No newline at end of file
+
+    /**
+     * Delta sync is over the whole roster: a filter would hide dogs that changed to stop matching it.
+     */
+    private static DogSyncToken syncPosition(DogSearchCriteria criteria, Optional<String> updatedSince,
+                                             Optional<String> syncToken) {
+        if (criteria.hasFilters() || criteria.getIds() != null) {
+            throw new BadRequestException("updatedSince and syncToken can't be combined with filters");
+        }
+        if (updatedSince.isPresent() && syncToken.isPresent()) {
+            throw new BadRequestException("Pass either updatedSince or syncToken, not both");
+        }
+        return syncToken.map(DogSyncToken::decode)
+            .orElseGet(() -> DogSyncToken.parseTimestamp(updatedSince.get()));
+    }
+
+    /**
+     * Dogs change at any time, so clients may store responses but must revalidate before reuse.
+     * The body's encoding follows {@code Accept}, so caches must key on it too.
+     */
+    private static <T> MutableHttpResponse<T> revalidate(MutableHttpResponse<T> response) {
+        return response.header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+}
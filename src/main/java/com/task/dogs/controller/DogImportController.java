@@ -0,0 +1,46 @@
+package com.task.dogs.controller;
+
+import com.task.dogs.config.DogExecutorFactory;
+import com.task.dogs.domain.dto.ImportReport;
+import com.task.dogs.service.DogCsvImporter;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Admin bulk import of dogs from CSV. Runs inside the server, so imported dogs reach its caches,
+ * search index, statistics, change feed and sync positions like any other write.
+ */
+@Controller("/admin/import")
+@ExecuteOn(DogExecutorFactory.DOGS)
+public class DogImportController {
+
+    private final DogCsvImporter importer;
+
+    public DogImportController(DogCsvImporter importer) {
+        this.importer = importer;
+    }
+
+    /**
+     * Imports the CSV body, read as it streams in; answers with the report once every batch has
+     * committed or been rejected.
+     */
+    @Post("/dogs")
+    @Consumes("text/csv")
+    @Produces("application/json")
+    public HttpResponse<ImportReport> importDogs(@Body InputStream body) throws IOException, InterruptedException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return HttpResponse.ok(importer.importCsv(reader));
+        }
+    }
+}
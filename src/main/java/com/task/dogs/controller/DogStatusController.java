@@ -1,27 +1,47 @@
 package com.task.dogs.controller;
 
-import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.codec.BinaryMediaTypes;
 import com.task.dogs.service.DogStatusService;
+import com.task.dogs.service.LookupCache;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Produces;
 
-import java.util.List;
+import java.util.Optional;
 
 @Controller("/statuses")
 public class DogStatusController {
 
     private final DogStatusService statusService;
+    private final String cacheControl;
 
-    public DogStatusController(DogStatusService statusService) {
+    public DogStatusController(DogStatusService statusService,
+                               @Value("${dogs.lookups.max-age:86400}") long maxAge) {
         this.statusService = statusService;
+        this.cacheControl = "public, max-age=" + maxAge;
     }
 
     @Get
-    @Produces("application/json")
-    public HttpResponse<List<DogStatus>> getAllStatuses() {
-        List<DogStatus> statuses = statusService.getAllStatuses();
-        return HttpResponse.ok(statuses);
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+    public HttpResponse<byte[]> getAllStatuses(HttpRequest<?> request,
+                                               @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch) {
+        LookupCache.Payload statuses = statusService.getAllStatusesPayload(BinaryMediaTypes.negotiate(request));
+        if (ifNoneMatch.filter(statuses::matches).isPresent()) {
+            return HttpResponse.<byte[]>notModified()
+                .header(HttpHeaders.ETAG, statuses.etag())
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return HttpResponse.ok(statuses.body())
+            .contentType(statuses.contentType())
+            .header(HttpHeaders.ETAG, statuses.etag())
+            .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
     }
 }
\ No newline at end of file
@@ -1,27 +1,47 @@
 package com.task.dogs.controller;
 
-import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.codec.BinaryMediaTypes;
 import com.task.dogs.service.LeavingReasonService;
+import com.task.dogs.service.LookupCache;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Produces;
 
-import java.util.List;
+import java.util.Optional;
 
 @Controller("/leaving-reasons")
 public class LeavingReasonController {
 
     private final LeavingReasonService reasonService;
+    private final String cacheControl;
 
-    public LeavingReasonController(LeavingReasonService reasonService) {
+    public LeavingReasonController(LeavingReasonService reasonService,
+                                   @Value("${dogs.lookups.max-age:86400}") long maxAge) {
         this.reasonService = reasonService;
+        this.cacheControl = "public, max-age=" + maxAge;
     }
 
     @Get
-    @Produces("application/json")
-    public HttpResponse<List<LeavingReason>> getAllReasons() {
-        List<LeavingReason> reasons = reasonService.getAllReasons();
-        return HttpResponse.ok(reasons);
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+    public HttpResponse<byte[]> getAllReasons(HttpRequest<?> request,
+                                              @Header(HttpHeaders.IF_NONE_MATCH) Optional<String> ifNoneMatch) {
+        LookupCache.Payload reasons = reasonService.getAllReasonsPayload(BinaryMediaTypes.negotiate(request));
+        if (ifNoneMatch.filter(reasons::matches).isPresent()) {
+            return HttpResponse.<byte[]>notModified()
+                .header(HttpHeaders.ETAG, reasons.etag())
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return HttpResponse.ok(reasons.body())
+            .contentType(reasons.contentType())
+            .header(HttpHeaders.ETAG, reasons.etag())
+            .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Summary of one archival run.
+ */
+@Serdeable
+public class ArchiveRun {
+
+    private final int moved;
+    private final int chunks;
+    private final long durationMs;
+
+    public ArchiveRun(int moved, int chunks, long durationMs) {
+        this.moved = moved;
+        this.chunks = chunks;
+        this.durationMs = durationMs;
+    }
+
+    public int getMoved() {
+        return moved;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
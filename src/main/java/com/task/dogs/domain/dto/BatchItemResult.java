@@ -0,0 +1,58 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch request, identified by its position in the request.
+ */
+@Serdeable
+public class BatchItemResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    private final int index;
+    private final Long id;
+    private final Status status;
+    private final List<String> errors;
+
+    public BatchItemResult(int index, Long id, Status status, List<String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public static BatchItemResult success(int index, Long id, Status status) {
+        return new BatchItemResult(index, id, status, List.of());
+    }
+
+    public static BatchItemResult failure(int index, Long id, Status status, List<String> errors) {
+        return new BatchItemResult(index, id, status, errors);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
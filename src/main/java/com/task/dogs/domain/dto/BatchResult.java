@@ -0,0 +1,38 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Per-item results of a batch request, in request order.
+ */
+@Serdeable
+public class BatchResult {
+
+    private final List<BatchItemResult> results;
+    private final int succeeded;
+    private final int failed;
+
+    public BatchResult(List<BatchItemResult> results) {
+        this.results = results;
+        this.succeeded = (int) results.stream()
+            .filter(r -> r.getStatus() == BatchItemResult.Status.CREATED
+                || r.getStatus() == BatchItemResult.Status.UPDATED
+                || r.getStatus() == BatchItemResult.Status.DELETED)
+            .count();
+        this.failed = results.size() - succeeded;
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+}
@@ -0,0 +1,26 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Outcome of a filter-based bulk delete: how many dogs were deleted and which.
+ */
+@Serdeable
+public class BulkDeleteResult {
+
+    private final int deleted;
+    private final long[] ids;
+
+    public BulkDeleteResult(long[] ids) {
+        this.deleted = ids.length;
+        this.ids = ids;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+}
@@ -0,0 +1,34 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * A page of results in keyset (cursor) mode. {@code next} is {@code null} on the last page.
+ */
+@Serdeable
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String next;
+
+    public CursorPage(List<T> content, int size, String next) {
+        this.content = content;
+        this.size = size;
+        this.next = next;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
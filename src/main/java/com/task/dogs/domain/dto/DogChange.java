@@ -0,0 +1,48 @@
+package com.task.dogs.domain.dto;
+
+import com.task.dogs.domain.event.DogChangeEvent;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.Instant;
+
+/**
+ * One committed dog change as published on the change feed. {@code sequence} increases by one
+ * per change; {@code dog} is {@code null} for deletes.
+ */
+@Serdeable
+public class DogChange {
+
+    private final long sequence;
+    private final DogChangeEvent.Type type;
+    private final long id;
+    private final DogDTO dog;
+    private final Instant committedAt;
+
+    public DogChange(long sequence, DogChangeEvent.Type type, long id, DogDTO dog, Instant committedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.id = id;
+        this.dog = dog;
+        this.committedAt = committedAt;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public DogChangeEvent.Type getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public DogDTO getDog() {
+        return dog;
+    }
+
+    public Instant getCommittedAt() {
+        return committedAt;
+    }
+}
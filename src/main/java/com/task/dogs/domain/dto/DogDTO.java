@@ -1,13 +1,16 @@
 package com.task.dogs.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.micronaut.core.annotation.Introspected;
 import io.micronaut.serde.annotation.Serdeable;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Serdeable
+@Introspected
 public class DogDTO {
 
     private Long id;
@@ -48,6 +51,10 @@ public class DogDTO {
 
     private String kennellingCharacteristic;
 
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
     public DogDTO() {
     }
 
@@ -162,4 +169,20 @@ public class DogDTO {
     public void setKennellingCharacteristic(String kennellingCharacteristic) {
         this.kennellingCharacteristic = kennellingCharacteristic;
     }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
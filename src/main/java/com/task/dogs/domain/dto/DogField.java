@@ -0,0 +1,112 @@
+package com.task.dogs.domain.dto;
+
+import com.task.dogs.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Dog properties a client can select with {@code ?fields=}, and the expression each is read
+ * with. {@code id} is always selected.
+ */
+public enum DogField {
+    ID("id", "d.id", (from, to) -> to.setId(from.getId())),
+    NAME("name", "d.name", (from, to) -> to.setName(from.getName())),
+    BREED("breed", "d.breed", (from, to) -> to.setBreed(from.getBreed())),
+    SUPPLIER("supplier", "d.supplier", (from, to) -> to.setSupplier(from.getSupplier())),
+    BADGE_ID("badgeId", "d.badge_id", (from, to) -> to.setBadgeId(from.getBadgeId())),
+    GENDER("gender", "d.gender", (from, to) -> to.setGender(from.getGender())),
+    BIRTH_DATE("birthDate", "d.birth_date", (from, to) -> to.setBirthDate(from.getBirthDate())),
+    DATE_ACQUIRED("dateAcquired", "d.date_acquired", (from, to) -> to.setDateAcquired(from.getDateAcquired())),
+    STATUS_ID("statusId", "d.status_id", (from, to) -> to.setStatusId(from.getStatusId())),
+    STATUS_NAME("statusName", "ds.status_name", (from, to) -> to.setStatusName(from.getStatusName())),
+    LEAVING_DATE("leavingDate", "d.leaving_date", (from, to) -> to.setLeavingDate(from.getLeavingDate())),
+    LEAVING_REASON_ID("leavingReasonId", "d.leaving_reason_id", (from, to) -> to.setLeavingReasonId(from.getLeavingReasonId())),
+    LEAVING_REASON_NAME("leavingReasonName", "lr.reason_name AS leaving_reason_name",
+        (from, to) -> to.setLeavingReasonName(from.getLeavingReasonName())),
+    KENNELLING_CHARACTERISTIC("kennellingCharacteristic", "d.kennelling_characteristic",
+        (from, to) -> to.setKennellingCharacteristic(from.getKennellingCharacteristic())),
+    UPDATED_AT("updatedAt", "d.updated_at", (from, to) -> to.setUpdatedAt(from.getUpdatedAt())),
+    VERSION("version", "d.version", (from, to) -> to.setVersion(from.getVersion()));
+
+    public static final Set<DogField> ALL = Collections.unmodifiableSet(EnumSet.allOf(DogField.class));
+
+    private final String property;
+    private final String column;
+    private final BiConsumer<DogDTO, DogDTO> copier;
+
+    DogField(String property, String column, BiConsumer<DogDTO, DogDTO> copier) {
+        this.property = property;
+        this.column = column;
+        this.copier = copier;
+    }
+
+    public static Optional<DogField> fromProperty(String property) {
+        return Arrays.stream(values())
+            .filter(field -> field.property.equals(property))
+            .findFirst();
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter; absent or blank selects every field.
+     */
+    public static Set<DogField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<DogField> selected = EnumSet.of(ID);
+        for (String property : fields.split(",")) {
+            String trimmed = property.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromProperty(trimmed).orElseThrow(() -> new BadRequestException(
+                "Unknown field: " + trimmed + ". Allowed: " + Arrays.stream(values()).map(DogField::getProperty)
+                    .collect(Collectors.joining(", ")))));
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * {@code fields} plus {@code required}, for reads that need more than the client asked for.
+     */
+    public static Set<DogField> including(Set<DogField> fields, DogField... required) {
+        EnumSet<DogField> union = EnumSet.copyOf(fields);
+        union.addAll(Arrays.asList(required));
+        return union;
+    }
+
+    public static boolean isAll(Set<DogField> fields) {
+        return fields.size() == ALL.size();
+    }
+
+    /**
+     * A copy of {@code dog} with only {@code fields} set; {@code dog} itself if that is all of them.
+     */
+    public static DogDTO project(DogDTO dog, Set<DogField> fields) {
+        if (isAll(fields)) {
+            return dog;
+        }
+        DogDTO projected = new DogDTO();
+        for (DogField field : fields) {
+            field.copier.accept(dog, projected);
+        }
+        return projected;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Select expression, against {@code dog d}, {@code dog_status ds} and {@code leaving_reason lr}.
+     */
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,163 @@
+package com.task.dogs.domain.dto;
+
+import com.task.dogs.exception.BadRequestException;
+import io.micronaut.json.tree.JsonNode;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The columns a JSON Merge Patch (RFC 7396) of a dog sets: a member that is present sets the
+ * column (explicit {@code null} clears it), a member that is absent leaves it untouched.
+ */
+public final class DogPatch {
+
+    /**
+     * Patchable dog properties and the columns they write. Required fields can't be cleared.
+     */
+    public enum Field {
+        NAME("name", "name", Types.VARCHAR, "Name is required"),
+        BREED("breed", "breed", Types.VARCHAR, "Breed is required"),
+        SUPPLIER("supplier", "supplier", Types.VARCHAR, "Supplier is required"),
+        BADGE_ID("badgeId", "badge_id", Types.VARCHAR, null),
+        GENDER("gender", "gender", Types.VARCHAR, "Gender is required"),
+        BIRTH_DATE("birthDate", "birth_date", Types.DATE, "Birth date is required"),
+        DATE_ACQUIRED("dateAcquired", "date_acquired", Types.DATE, "Date acquired is required"),
+        STATUS_ID("statusId", "status_id", Types.BIGINT, "Status is required"),
+        LEAVING_DATE("leavingDate", "leaving_date", Types.DATE, null),
+        LEAVING_REASON_ID("leavingReasonId", "leaving_reason_id", Types.BIGINT, null),
+        KENNELLING_CHARACTERISTIC("kennellingCharacteristic", "kennelling_characteristic", Types.VARCHAR, null);
+
+        private final String property;
+        private final String column;
+        private final int sqlType;
+        private final String requiredMessage;
+
+        Field(String property, String column, int sqlType, String requiredMessage) {
+            this.property = property;
+            this.column = column;
+            this.sqlType = sqlType;
+            this.requiredMessage = requiredMessage;
+        }
+
+        public static Optional<Field> fromProperty(String property) {
+            return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public int getSqlType() {
+            return sqlType;
+        }
+    }
+
+    private static final String VERSION = "version";
+
+    private final Map<Field, Object> values = new EnumMap<>(Field.class);
+    private Long version;
+
+    /**
+     * Reads a merge patch document, checking types and that required fields aren't cleared or
+     * blanked. Read-only properties other than {@code version} are rejected.
+     */
+    public static DogPatch fromJson(JsonNode document) {
+        if (document == null || !document.isObject()) {
+            throw new BadRequestException("Patch must be a JSON object");
+        }
+        DogPatch patch = new DogPatch();
+        for (Map.Entry<String, JsonNode> member : document.entries()) {
+            String property = member.getKey();
+            JsonNode value = member.getValue();
+            if (property.equals(VERSION)) {
+                patch.version = value.isNull() ? null : asLong(property, value);
+                continue;
+            }
+            Field field = Field.fromProperty(property)
+                .orElseThrow(() -> new BadRequestException("Property can't be patched: " + property));
+            patch.values.put(field, parse(field, value));
+        }
+        return patch;
+    }
+
+    private static Object parse(Field field, JsonNode value) {
+        if (value.isNull()) {
+            if (field.requiredMessage != null) {
+                throw new BadRequestException(field.requiredMessage);
+            }
+            return null;
+        }
+        return switch (field.sqlType) {
+            case Types.BIGINT -> asLong(field.property, value);
+            case Types.DATE -> asDate(field.property, value);
+            default -> {
+                String text = asString(field.property, value);
+                if (field.requiredMessage != null && text.isBlank()) {
+                    throw new BadRequestException(field.requiredMessage);
+                }
+                yield text;
+            }
+        };
+    }
+
+    private static String asString(String property, JsonNode value) {
+        if (!value.isString()) {
+            throw new BadRequestException(property + " must be a string");
+        }
+        return value.getStringValue();
+    }
+
+    private static Long asLong(String property, JsonNode value) {
+        if (!value.isNumber()) {
+            throw new BadRequestException(property + " must be a number");
+        }
+        return value.getLongValue();
+    }
+
+    private static LocalDate asDate(String property, JsonNode value) {
+        try {
+            return LocalDate.parse(asString(property, value));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(property + " must be a date (yyyy-MM-dd)");
+        }
+    }
+
+    /**
+     * Columns to write, in declaration order; a {@code null} value clears the column.
+     */
+    public Map<Field, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public boolean contains(Field field) {
+        return values.containsKey(field);
+    }
+
+    public Object get(Field field) {
+        return values.get(field);
+    }
+
+    /**
+     * The {@code version} member, if the document carried one.
+     */
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,246 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.annotation.QueryValue;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Optional filters applied to dog listings, bound from the query string of {@code GET /dogs}.
+ * {@code null} means "not filtered"; only supplied filters become SQL predicates.
+ * <p>
+ * {@code name}, {@code breed} and {@code supplier} match case-insensitively, as a substring by
+ * default or as a prefix with {@code match=prefix} (which can use the lowercased-column indexes).
+ * {@code statusId}, {@code gender} and {@code badgeId} match exactly; the date filters are
+ * inclusive ranges.
+ */
+@Introspected
+public class DogSearchCriteria {
+
+    public static final String MATCH_PREFIX = "prefix";
+    public static final String MATCH_CONTAINS = "contains";
+
+    @Nullable @QueryValue
+    private String name;
+    @Nullable @QueryValue
+    private String breed;
+    @Nullable @QueryValue
+    private String supplier;
+    @Nullable @QueryValue
+    private String match;
+
+    @Nullable @QueryValue
+    private Long statusId;
+    @Nullable @QueryValue
+    private String gender;
+    @Nullable @QueryValue
+    private String badgeId;
+
+    @Nullable @QueryValue
+    private LocalDate birthDateFrom;
+    @Nullable @QueryValue
+    private LocalDate birthDateTo;
+    @Nullable @QueryValue
+    private LocalDate dateAcquiredFrom;
+    @Nullable @QueryValue
+    private LocalDate dateAcquiredTo;
+    @Nullable @QueryValue
+    private LocalDate leavingDateFrom;
+    @Nullable @QueryValue
+    private LocalDate leavingDateTo;
+
+    /**
+     * Restricts results to these ids; set internally when text filters are resolved through
+     * the in-memory search index, never bound from the request.
+     */
+    private long[] ids;
+
+    @Creator
+    public DogSearchCriteria() {
+    }
+
+    public DogSearchCriteria(String name, String breed, String supplier) {
+        this.name = name;
+        this.breed = breed;
+        this.supplier = supplier;
+    }
+
+    public static DogSearchCriteria none() {
+        return new DogSearchCriteria();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBreed() {
+        return breed;
+    }
+
+    public void setBreed(String breed) {
+        this.breed = breed;
+    }
+
+    public String getSupplier() {
+        return supplier;
+    }
+
+    public void setSupplier(String supplier) {
+        this.supplier = supplier;
+    }
+
+    public String getMatch() {
+        return match;
+    }
+
+    public void setMatch(String match) {
+        this.match = match;
+    }
+
+    public boolean isPrefixMatch() {
+        return MATCH_PREFIX.equalsIgnoreCase(match);
+    }
+
+    public Long getStatusId() {
+        return statusId;
+    }
+
+    public void setStatusId(Long statusId) {
+        this.statusId = statusId;
+    }
+
+    public String getGender() {
+        return gender;
+    }
+
+    public void setGender(String gender) {
+        this.gender = gender;
+    }
+
+    public String getBadgeId() {
+        return badgeId;
+    }
+
+    public void setBadgeId(String badgeId) {
+        this.badgeId = badgeId;
+    }
+
+    public LocalDate getBirthDateFrom() {
+        return birthDateFrom;
+    }
+
+    public void setBirthDateFrom(LocalDate birthDateFrom) {
+        this.birthDateFrom = birthDateFrom;
+    }
+
+    public LocalDate getBirthDateTo() {
+        return birthDateTo;
+    }
+
+    public void setBirthDateTo(LocalDate birthDateTo) {
+        this.birthDateTo = birthDateTo;
+    }
+
+    public LocalDate getDateAcquiredFrom() {
+        return dateAcquiredFrom;
+    }
+
+    public void setDateAcquiredFrom(LocalDate dateAcquiredFrom) {
+        this.dateAcquiredFrom = dateAcquiredFrom;
+    }
+
+    public LocalDate getDateAcquiredTo() {
+        return dateAcquiredTo;
+    }
+
+    public void setDateAcquiredTo(LocalDate dateAcquiredTo) {
+        this.dateAcquiredTo = dateAcquiredTo;
+    }
+
+    public LocalDate getLeavingDateFrom() {
+        return leavingDateFrom;
+    }
+
+    public void setLeavingDateFrom(LocalDate leavingDateFrom) {
+        this.leavingDateFrom = leavingDateFrom;
+    }
+
+    public LocalDate getLeavingDateTo() {
+        return leavingDateTo;
+    }
+
+    public void setLeavingDateTo(LocalDate leavingDateTo) {
+        this.leavingDateTo = leavingDateTo;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public void setIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Copy of these criteria with the {@code name}, {@code breed} and {@code supplier} filters
+     * removed, restricted to {@code ids} instead.
+     */
+    public DogSearchCriteria withIdsInsteadOfText(long[] ids, boolean keepName, boolean keepBreed, boolean keepSupplier) {
+        DogSearchCriteria copy = new DogSearchCriteria(
+            keepName ? name : null,
+            keepBreed ? breed : null,
+            keepSupplier ? supplier : null
+        );
+        copy.match = match;
+        copy.statusId = statusId;
+        copy.gender = gender;
+        copy.badgeId = badgeId;
+        copy.birthDateFrom = birthDateFrom;
+        copy.birthDateTo = birthDateTo;
+        copy.dateAcquiredFrom = dateAcquiredFrom;
+        copy.dateAcquiredTo = dateAcquiredTo;
+        copy.leavingDateFrom = leavingDateFrom;
+        copy.leavingDateTo = leavingDateTo;
+        copy.ids = ids;
+        return copy;
+    }
+
+    public boolean hasFilters() {
+        return name != null || breed != null || supplier != null
+            || statusId != null || gender != null || badgeId != null
+            || birthDateFrom != null || birthDateTo != null
+            || dateAcquiredFrom != null || dateAcquiredTo != null
+            || leavingDateFrom != null || leavingDateTo != null;
+    }
+
+    /**
+     * Key identifying the result set: filters that match case-insensitively are lowercased.
+     */
+    public String cacheKey() {
+        return "name=" + normalize(name)
+            + "&breed=" + normalize(breed)
+            + "&supplier=" + normalize(supplier)
+            + "&match=" + (isPrefixMatch() ? MATCH_PREFIX : MATCH_CONTAINS)
+            + "&statusId=" + valueOf(statusId)
+            + "&gender=" + valueOf(gender)
+            + "&badgeId=" + valueOf(badgeId)
+            + "&birthDate=" + valueOf(birthDateFrom) + ".." + valueOf(birthDateTo)
+            + "&dateAcquired=" + valueOf(dateAcquiredFrom) + ".." + valueOf(dateAcquiredTo)
+            + "&leavingDate=" + valueOf(leavingDateFrom) + ".." + valueOf(leavingDateTo);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Dogs changed since a sync position: current state of those still on the roster, ids of those
+ * deleted. {@code next} is the position to sync from next time and is always present;
+ * {@code hasMore} says whether more changes are already waiting after it.
+ */
+@Serdeable
+public class DogSyncPage {
+
+    private final List<DogDTO> changed;
+    private final List<Long> deleted;
+    private final String next;
+    private final boolean hasMore;
+
+    public DogSyncPage(List<DogDTO> changed, List<Long> deleted, String next, boolean hasMore) {
+        this.changed = changed;
+        this.deleted = deleted;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<DogDTO> getChanged() {
+        return changed;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
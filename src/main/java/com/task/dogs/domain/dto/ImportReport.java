@@ -0,0 +1,82 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import: row counts, throughput and the rejected rows (capped, see
+ * {@link #getRejectedReported()}).
+ */
+@Serdeable
+public class ImportReport {
+
+    private final long rowsRead;
+    private final long imported;
+    private final long rejected;
+    private final long elapsedMillis;
+    private final List<Rejection> rejections;
+
+    public ImportReport(long rowsRead, long imported, long rejected, long elapsedMillis, List<Rejection> rejections) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rejections = rejections;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * Rejected rows in file order; at most the configured number are kept, so with more
+     * rejections than that this is a sample.
+     */
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public int getRejectedReported() {
+        return rejections.size();
+    }
+
+    /**
+     * A rejected row, identified by the line of the file it starts on.
+     */
+    @Serdeable
+    public static class Rejection {
+
+        private final long line;
+        private final List<String> errors;
+
+        public Rejection(long line, List<String> errors) {
+            this.line = line;
+            this.errors = errors;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.Map;
+
+/**
+ * Counts of non-deleted dogs, overall and per value of each grouped attribute. Groups are
+ * ordered by count, largest first; values with no dogs are left out.
+ */
+@Serdeable
+public class RosterStats {
+
+    private final long total;
+    private final Map<String, Long> byStatus;
+    private final Map<String, Long> byBreed;
+    private final Map<String, Long> bySupplier;
+    private final Map<String, Long> byGender;
+    private final Map<String, Long> byLeavingReason;
+
+    public RosterStats(long total,
+                       Map<String, Long> byStatus,
+                       Map<String, Long> byBreed,
+                       Map<String, Long> bySupplier,
+                       Map<String, Long> byGender,
+                       Map<String, Long> byLeavingReason) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byBreed = byBreed;
+        this.bySupplier = bySupplier;
+        this.byGender = byGender;
+        this.byLeavingReason = byLeavingReason;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<String, Long> getByBreed() {
+        return byBreed;
+    }
+
+    public Map<String, Long> getBySupplier() {
+        return bySupplier;
+    }
+
+    public Map<String, Long> getByGender() {
+        return byGender;
+    }
+
+    /**
+     * Dogs with a leaving reason, per reason.
+     */
+    public Map<String, Long> getByLeavingReason() {
+        return byLeavingReason;
+    }
+}
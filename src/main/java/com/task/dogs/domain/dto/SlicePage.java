@@ -0,0 +1,40 @@
+package com.task.dogs.domain.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * A page of results without a total count; {@code hasNext} says whether another page exists.
+ */
+@Serdeable
+public class SlicePage<T> {
+
+    private final List<T> content;
+    private final int pageNumber;
+    private final int size;
+    private final boolean hasNext;
+
+    public SlicePage(List<T> content, int pageNumber, int size, boolean hasNext) {
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -38,6 +38,11 @@ public class Dog {
     @DateUpdated
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    private long changeSeq;
+
     public Dog() {}
 
     public Long getId() {
@@ -159,4 +164,20 @@ public class Dog {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
 }
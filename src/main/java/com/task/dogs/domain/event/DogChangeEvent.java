@@ -0,0 +1,54 @@
+package com.task.dogs.domain.event;
+
+import com.task.dogs.domain.dto.DogDTO;
+
+/**
+ * Published by {@code DogService} for every dog written. Listeners that keep derived state
+ * (caches, indexes) should use {@code @TransactionalEventListener} so they only observe
+ * committed changes.
+ */
+public class DogChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final DogDTO dog;
+
+    public DogChangeEvent(Type type, Long id, DogDTO dog) {
+        this.type = type;
+        this.id = id;
+        this.dog = dog;
+    }
+
+    public static DogChangeEvent created(DogDTO dog) {
+        return new DogChangeEvent(Type.CREATED, dog.getId(), dog);
+    }
+
+    public static DogChangeEvent updated(DogDTO dog) {
+        return new DogChangeEvent(Type.UPDATED, dog.getId(), dog);
+    }
+
+    public static DogChangeEvent deleted(Long id) {
+        return new DogChangeEvent(Type.DELETED, id, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * The dog as written, or {@code null} for {@link Type#DELETED}.
+     */
+    public DogDTO getDog() {
+        return dog;
+    }
+}
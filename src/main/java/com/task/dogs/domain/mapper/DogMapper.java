@@ -26,6 +26,8 @@ public interface  DogMapper{
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
     Dog toEntity(DogDTO dto);
 
     @Mapping(target = "id", ignore = true)
@@ -34,6 +36,8 @@ public interface  DogMapper{
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
     void updateEntityFromDTO(DogDTO dto, @MappingTarget Dog dog);
 
     default Dog setRelations(Dog dog, DogStatus status, LeavingReason leavingReason) {
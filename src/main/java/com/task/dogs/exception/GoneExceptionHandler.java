@@ -0,0 +1,31 @@
+package com.task.dogs.exception;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
+import io.micronaut.http.server.exceptions.response.ErrorContext;
+import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import jakarta.inject.Singleton;
+
+@Produces
+@Singleton
+@Requires(classes = {GoneException.class, ExceptionHandler.class})
+public class GoneExceptionHandler implements ExceptionHandler<GoneException, HttpResponse<?>> {
+
+    private final ErrorResponseProcessor<?> errorResponseProcessor;
+
+    public GoneExceptionHandler(ErrorResponseProcessor<?> errorResponseProcessor) {
+        this.errorResponseProcessor = errorResponseProcessor;
+    }
+
+    @Override
+    public HttpResponse<?> handle(HttpRequest request, GoneException exception) {
+        return errorResponseProcessor.processResponse(ErrorContext.builder(request)
+            .cause(exception)
+            .errorMessage(exception.getMessage())
+            .build(), HttpResponse.status(HttpStatus.GONE));
+    }
+}
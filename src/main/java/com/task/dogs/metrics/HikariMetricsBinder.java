@@ -0,0 +1,34 @@
+package com.task.dogs.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands each Hikari pool the meter registry as it is created, which publishes Hikari's own
+ * {@code hikaricp.connections.*} meters: active, idle, pending, acquisition, usage and creation
+ * times, and timeouts, tagged by pool name.
+ */
+@Singleton
+public class HikariMetricsBinder implements BeanCreatedEventListener<DataSource> {
+
+    private final BeanProvider<MeterRegistry> meterRegistry;
+
+    public HikariMetricsBinder(BeanProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        if (event.getBean() instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null
+                && hikari.getMetricsTrackerFactory() == null) {
+            hikari.setMetricRegistry(meterRegistry.get());
+        }
+        return event.getBean();
+    }
+}
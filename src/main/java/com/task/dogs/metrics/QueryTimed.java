@@ -0,0 +1,20 @@
+package com.task.dogs.metrics;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times every method of the annotated repository as {@code dogs.repository.query}, tagged with
+ * the repository, method and outcome. See {@link QueryTimedInterceptor}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Around
+public @interface QueryTimed {
+}
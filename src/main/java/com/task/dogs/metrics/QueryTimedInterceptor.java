@@ -0,0 +1,65 @@
+package com.task.dogs.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of {@link QueryTimed} repository calls. Timers are resolved once per
+ * method and outcome and then reused, so the per-call cost is two clock reads and a histogram
+ * update. Disabled with {@code dogs.metrics.repository.enabled=false}.
+ */
+@Singleton
+@InterceptorBean(QueryTimed.class)
+@Requires(property = "dogs.metrics.repository.enabled", notEquals = "false")
+public class QueryTimedInterceptor implements MethodInterceptor<Object, Object> {
+
+    static final String METRIC = "dogs.repository.query";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ExecutableMethod<?, ?>, Timers> timers = new ConcurrentHashMap<>();
+
+    public QueryTimedInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Timers methodTimers = timers.computeIfAbsent(context.getExecutableMethod(), this::register);
+        long start = System.nanoTime();
+        try {
+            Object result = context.proceed();
+            methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers register(ExecutableMethod<?, ?> method) {
+        return new Timers(timer(method, "success"), timer(method, "error"));
+    }
+
+    private Timer timer(ExecutableMethod<?, ?> method, String outcome) {
+        return Timer.builder(METRIC)
+            .description("Dog repository query latency")
+            .tag("repository", method.getDeclaringType().getSimpleName())
+            .tag("method", method.getMethodName())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private record Timers(Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.metrics.QueryTimed;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import jakarta.inject.Singleton;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+/**
+ * Moves soft-deleted dogs from {@code dog} to {@code dog_archive} and reads them back. Callers
+ * own the transaction.
+ */
+@Singleton
+@QueryTimed
+public class DogArchiveRepository {
+
+    private static final String COLUMNS = "id, name, breed, supplier, badge_id, gender, birth_date, date_acquired, " +
+        "status_id, leaving_date, leaving_reason_id, kennelling_characteristic, created_at, updated_at, version, change_seq";
+
+    private static final String FIND_ARCHIVABLE = "SELECT id FROM dog WHERE deleted = true AND updated_at < ? " +
+        "ORDER BY updated_at, id LIMIT ?";
+
+    private static final String COPY = "INSERT INTO dog_archive (" + COLUMNS + ") " +
+        "SELECT " + COLUMNS + " FROM dog WHERE id = ANY(?) AND deleted = true";
+
+    private static final String REMOVE = "DELETE FROM dog WHERE id = ANY(?) AND deleted = true";
+
+    /**
+     * Same shape as {@link DogRepository#DOG_DTO_SELECT}, over the archive; {@code updated_at}
+     * is when the dog was deleted.
+     */
+    private static final String ARCHIVED_DTO_SELECT = "SELECT a.id, a.name, a.breed, a.supplier, a.badge_id, a.gender, " +
+        "a.birth_date, a.date_acquired, a.status_id, ds.status_name, a.leaving_date, " +
+        "a.leaving_reason_id, lr.reason_name AS leaving_reason_name, a.kennelling_characteristic, a.updated_at, a.version " +
+        "FROM dog_archive a " +
+        "JOIN dog_status ds ON a.status_id = ds.id " +
+        "LEFT JOIN leaving_reason lr ON a.leaving_reason_id = lr.id ";
+
+    private final JdbcOperations jdbcOperations;
+
+    public DogArchiveRepository(JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    /**
+     * Ids of up to {@code limit} dogs deleted before {@code cutoff}, oldest deletion first.
+     */
+    public long[] findArchivable(LocalDateTime cutoff, int limit) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(FIND_ARCHIVABLE)) {
+                ps.setTimestamp(1, Timestamp.valueOf(cutoff));
+                ps.setInt(2, limit);
+                LongStream.Builder ids = LongStream.builder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getLong(1));
+                    }
+                }
+                return ids.build().toArray();
+            }
+        });
+    }
+
+    /**
+     * Copies the given deleted dogs into the archive and removes them from {@code dog}; returns
+     * the number of rows moved. Ids that aren't deleted (or are already gone) are skipped.
+     */
+    public int moveToArchive(long[] ids) {
+        Long[] boxed = Arrays.stream(ids).boxed().toArray(Long[]::new);
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement copy = connection.prepareStatement(COPY);
+                 PreparedStatement remove = connection.prepareStatement(REMOVE)) {
+                copy.setObject(1, boxed);
+                int copied = copy.executeUpdate();
+                remove.setObject(1, boxed);
+                int removed = remove.executeUpdate();
+                if (copied != removed) {
+                    throw new IllegalStateException("Archived " + copied + " dogs but removed " + removed);
+                }
+                return removed;
+            }
+        });
+    }
+
+    public Optional<DogDTO> findArchived(long id) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ARCHIVED_DTO_SELECT + "WHERE a.id = ?")) {
+                ps.setLong(1, id);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? Optional.of(DogRowMapper.map(rs)) : Optional.empty();
+                }
+            }
+        });
+    }
+
+    /**
+     * Up to {@code limit} archived dogs with ids greater than {@code afterId}, in id order.
+     */
+    public List<DogDTO> findArchivedPage(long afterId, int limit) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ARCHIVED_DTO_SELECT + "WHERE a.id > ? ORDER BY a.id LIMIT ?")) {
+                ps.setLong(1, afterId);
+                ps.setInt(2, limit);
+                List<DogDTO> dogs = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        dogs.add(DogRowMapper.map(rs));
+                    }
+                }
+                return dogs;
+            }
+        });
+    }
+}
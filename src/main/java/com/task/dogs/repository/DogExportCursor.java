@@ -0,0 +1,62 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Forward-only, read-only cursor over every non-deleted dog in id order. Owns its own
+ * connection for as long as it is open, independent of any transaction, so it can be advanced
+ * across threads as a downstream consumer asks for more rows. Not thread-safe.
+ */
+public final class DogExportCursor implements AutoCloseable {
+
+    private static final String SQL = DogRepository.DOG_DTO_SELECT + "WHERE d.deleted = false ORDER BY d.id ASC";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+
+    private DogExportCursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+    }
+
+    static DogExportCursor open(Connection connection, int fetchSize) throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            connection.setReadOnly(true);
+            // Drivers such as PostgreSQL only honour the fetch size outside auto-commit
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return new DogExportCursor(connection, statement, statement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            if (statement != null) {
+                statement.close();
+            }
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The next dog, or {@code null} once the cursor is exhausted.
+     */
+    public DogDTO next() throws SQLException {
+        return resultSet.next() ? DogRowMapper.map(resultSet) : null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (connection; statement; resultSet) {
+            connection.rollback();
+            connection.setAutoCommit(true);
+            connection.setReadOnly(false);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.metrics.QueryTimed;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Dog reads whose SQL depends on the request (sort column, seek position, supplied filters)
+ * and therefore can't be expressed as a static {@code @Query} on {@link DogRepository}.
+ */
+@Singleton
+@QueryTimed
+public class DogQueryRepository {
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    private final JdbcOperations jdbcOperations;
+
+    public DogQueryRepository(JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    /**
+     * Returns up to {@code limit} non-deleted dogs ordered by {@code (sort, id)}, starting strictly
+     * after the given seek position. A {@code null} {@code afterId} starts from the beginning.
+     */
+    public List<DogDTO> findKeysetPage(DogSearchCriteria criteria, DogSortField sort, boolean descending,
+                                       Object afterKey, Long afterId, int limit) {
+        return findKeysetPage(criteria, sort, descending, afterKey, afterId, limit, DogField.ALL);
+    }
+
+    /**
+     * As above, selecting and mapping only {@code fields}.
+     */
+    public List<DogDTO> findKeysetPage(DogSearchCriteria criteria, DogSortField sort, boolean descending,
+                                       Object afterKey, Long afterId, int limit, Set<DogField> fields) {
+        return query(keysetStatement(criteria, sort, descending, afterKey, afterId, limit, fields), fields);
+    }
+
+    /**
+     * Returns up to {@code limit} non-deleted dogs starting at the pageable's offset, in its sort
+     * order (ties broken by id). No count query is issued.
+     */
+    public List<DogDTO> findPage(DogSearchCriteria criteria, Pageable pageable, int limit) {
+        return findPage(criteria, pageable, limit, DogField.ALL);
+    }
+
+    /**
+     * As above, selecting and mapping only {@code fields}.
+     */
+    public List<DogDTO> findPage(DogSearchCriteria criteria, Pageable pageable, int limit, Set<DogField> fields) {
+        return query(pageStatement(criteria, pageable, limit, fields), fields);
+    }
+
+    /**
+     * The non-deleted dog with only {@code fields} selected and mapped.
+     */
+    public Optional<DogDTO> findById(long id, Set<DogField> fields) {
+        List<DogDTO> dogs = query(byIdStatement(id, fields), fields);
+        return dogs.isEmpty() ? Optional.empty() : Optional.of(dogs.get(0));
+    }
+
+    public long count(DogSearchCriteria criteria) {
+        return queryForLong(countStatement(criteria));
+    }
+
+    /**
+     * Opens a cursor over every non-deleted dog on a connection of its own, taken from the pool
+     * rather than the current transaction. The caller must close it.
+     */
+    public DogExportCursor openExportCursor(int fetchSize) throws SQLException {
+        DataSource dataSource = DelegatingDataSource.unwrapDataSource(jdbcOperations.getDataSource());
+        return DogExportCursor.open(dataSource.getConnection(), fetchSize);
+    }
+
+    /**
+     * Streams id, searchable text and row version of every non-deleted dog, for building
+     * in-memory indexes.
+     */
+    public void forEachSearchText(SearchTextConsumer consumer) {
+        jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id, name, breed, supplier, version FROM dog WHERE deleted = false")) {
+                ps.setFetchSize(SCAN_FETCH_SIZE);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getLong(5));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} dogs, deleted ones included, whose {@code (change_seq, id)} is
+     * after the given position and whose {@code change_seq} is no later than {@code until}, in
+     * that order. Deleted dogs come back as tombstones with no {@link ChangedRow#dog()}; the others
+     * with only {@code fields} mapped.
+     */
+    public List<ChangedRow> findChangedSince(long afterPosition, long afterId, long until, int limit,
+                                             Set<DogField> fields) {
+        SqlStatement statement = changedSinceStatement(afterPosition, afterId, until, limit, fields);
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql())) {
+                statement.bind(ps);
+                List<ChangedRow> rows = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        DogDTO dog = rs.getBoolean("deleted") ? null : DogRowMapper.map(rs, fields);
+                        rows.add(new ChangedRow(rs.getLong("id"), rs.getLong("change_seq"), dog));
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    /**
+     * Lowest delta sync position among dogs whose {@code updated_at} is after {@code since},
+     * deleted ones included, or empty if there are none.
+     */
+    public OptionalLong findFirstPositionChangedAfter(LocalDateTime since) {
+        SqlStatement statement = firstPositionStatement(since);
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql())) {
+                statement.bind(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    long position = rs.getLong(1);
+                    return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(position);
+                }
+            }
+        });
+    }
+
+    SqlStatement keysetStatement(DogSearchCriteria criteria, DogSortField sort, boolean descending,
+                                 Object afterKey, Long afterId, int limit, Set<DogField> fields) {
+        SqlStatement statement = new SqlStatement(select(fields) + "WHERE d.deleted = false");
+        appendFilters(criteria, statement);
+
+        String direction = descending ? "DESC" : "ASC";
+        if (afterId != null) {
+            String cmp = descending ? "<" : ">";
+            if (sort == DogSortField.ID) {
+                statement.append(" AND d.id " + cmp + " ?", afterId);
+            } else {
+                // The leading inclusive bound is what lets the (deleted, column, id) index be range-scanned
+                statement.append(" AND " + sort.getColumn() + " " + cmp + "= ?", afterKey);
+                statement.append(" AND (" + sort.getColumn() + " " + cmp + " ?", afterKey);
+                statement.append(" OR d.id " + cmp + " ?)", afterId);
+            }
+        }
+
+        if (sort != DogSortField.ID) {
+            statement.append(" ORDER BY " + indexOrderPrefix(criteria) + sort.getColumn() + " " + direction + ", d.id " + direction);
+        } else {
+            statement.append(" ORDER BY " + indexOrderPrefix(criteria) + "d.id " + direction);
+        }
+        statement.append(" LIMIT ?", limit);
+        return statement;
+    }
+
+    SqlStatement pageStatement(DogSearchCriteria criteria, Pageable pageable, int limit, Set<DogField> fields) {
+        SqlStatement statement = new SqlStatement(select(fields) + "WHERE d.deleted = false");
+        appendFilters(criteria, statement);
+
+        statement.append(" ORDER BY " + indexOrderPrefix(criteria));
+        for (Sort.Order order : pageable.getSort().getOrderBy()) {
+            DogSortField field = DogSortField.fromProperty(order.getProperty())
+                .orElseThrow(() -> new BadRequestException("Unsupported sort property: " + order.getProperty()));
+            statement.append(field.getColumn() + (order.isAscending() ? " ASC, " : " DESC, "));
+        }
+        statement.append("d.id ASC LIMIT ?", limit);
+        statement.append(" OFFSET ?", pageable.getOffset());
+        return statement;
+    }
+
+    /**
+     * Leading sort key for unfiltered listings. {@code deleted} is constant there, so sorting on it
+     * first changes nothing but lets H2 match the sort to a {@code (deleted, column, id)} index and
+     * stop reading at the {@code LIMIT}; it only uses an index for ordering when the index's first
+     * column leads the {@code ORDER BY}. Filtered listings are narrowed by the filter's index instead.
+     */
+    private static String indexOrderPrefix(DogSearchCriteria criteria) {
+        return criteria.hasFilters() || criteria.getIds() != null ? "" : "d.deleted, ";
+    }
+
+    SqlStatement countStatement(DogSearchCriteria criteria) {
+        SqlStatement statement = new SqlStatement("SELECT COUNT(*) FROM dog d WHERE d.deleted = false");
+        appendFilters(criteria, statement);
+        return statement;
+    }
+
+    SqlStatement byIdStatement(long id, Set<DogField> fields) {
+        return new SqlStatement(select(fields)).append("WHERE d.id = ? AND d.deleted = false", id);
+    }
+
+    SqlStatement changedSinceStatement(long afterPosition, long afterId, long until, int limit, Set<DogField> fields) {
+        // Same seek shape as keysetStatement, over the (change_seq, id) index and without the deleted filter
+        return new SqlStatement(select(fields, "d.change_seq", "d.deleted"))
+            .append("WHERE d.change_seq >= ?", afterPosition)
+            .append(" AND (d.change_seq > ?", afterPosition)
+            .append(" OR d.id > ?)", afterId)
+            .append(" AND d.change_seq <= ?", until)
+            .append(" ORDER BY d.change_seq, d.id LIMIT ?", limit);
+    }
+
+    SqlStatement firstPositionStatement(LocalDateTime since) {
+        return new SqlStatement("SELECT MIN(d.change_seq) FROM dog d").append(" WHERE d.updated_at > ?", since);
+    }
+
+    /**
+     * Runs {@code EXPLAIN} for a statement and returns H2's plan text.
+     */
+    String explain(SqlStatement statement) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                statement.bind(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Select list and joins for {@code fields}, plus any {@code extraColumns} of {@code dog d}. The
+     * lookup tables are only joined when one of their names is selected; leaving out the
+     * {@code dog_status} inner join can't change the rows since {@code status_id} is a non-null
+     * foreign key. With every field selected this is {@link DogRepository#DOG_DTO_SELECT}.
+     */
+    static String select(Set<DogField> fields, String... extraColumns) {
+        StringJoiner columns = new StringJoiner(", ", "SELECT ", " FROM dog d ");
+        for (DogField field : fields) {
+            columns.add(field.getColumn());
+        }
+        for (String column : extraColumns) {
+            columns.add(column);
+        }
+        StringBuilder sql = new StringBuilder(columns.toString());
+        if (fields.contains(DogField.STATUS_NAME)) {
+            sql.append("JOIN dog_status ds ON d.status_id = ds.id ");
+        }
+        if (fields.contains(DogField.LEAVING_REASON_NAME)) {
+            sql.append("LEFT JOIN leaving_reason lr ON d.leaving_reason_id = lr.id ");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Appends a predicate for each supplied filter only, so H2 can pick an index per statement
+     * instead of sharing one catch-all plan. Expects the {@code dog} table aliased as {@code d}.
+     */
+    static void appendFilters(DogSearchCriteria criteria, SqlStatement statement) {
+        boolean prefix = criteria.isPrefixMatch();
+        appendText("d.name_lower", criteria.getName(), prefix, statement);
+        appendText("d.breed_lower", criteria.getBreed(), prefix, statement);
+        appendText("d.supplier_lower", criteria.getSupplier(), prefix, statement);
+
+        if (criteria.getIds() != null) {
+            statement.append(" AND d.id = ANY(?)", Arrays.stream(criteria.getIds()).boxed().toArray(Long[]::new));
+        }
+
+        appendEquals("d.status_id", criteria.getStatusId(), statement);
+        appendEquals("d.gender", criteria.getGender(), statement);
+        appendEquals("d.badge_id", criteria.getBadgeId(), statement);
+
+        appendRange("d.birth_date", criteria.getBirthDateFrom(), criteria.getBirthDateTo(), statement);
+        appendRange("d.date_acquired", criteria.getDateAcquiredFrom(), criteria.getDateAcquiredTo(), statement);
+        appendRange("d.leaving_date", criteria.getLeavingDateFrom(), criteria.getLeavingDateTo(), statement);
+    }
+
+    private static void appendText(String lowerColumn, String value, boolean prefix, SqlStatement statement) {
+        if (value == null) {
+            return;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (prefix) {
+            // Expressed as a half-open range so the bounds stay index conditions with bind parameters
+            statement.append(" AND " + lowerColumn + " >= ?", lower);
+            String upper = prefixUpperBound(lower);
+            if (upper != null) {
+                statement.append(" AND " + lowerColumn + " < ?", upper);
+            }
+        } else {
+            statement.append(" AND " + lowerColumn + " LIKE ? ESCAPE '\\'", "%" + escapeLike(lower) + "%");
+        }
+    }
+
+    private static void appendEquals(String column, Object value, SqlStatement statement) {
+        if (value != null) {
+            statement.append(" AND " + column + " = ?", value);
+        }
+    }
+
+    private static void appendRange(String column, Object from, Object to, SqlStatement statement) {
+        if (from != null) {
+            statement.append(" AND " + column + " >= ?", from);
+        }
+        if (to != null) {
+            statement.append(" AND " + column + " <= ?", to);
+        }
+    }
+
+    /**
+     * Smallest string greater than every string starting with {@code prefix}, or {@code null}
+     * if there is none (empty prefix, or one made only of {@code Character.MAX_VALUE}).
+     */
+    static String prefixUpperBound(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private List<DogDTO> query(SqlStatement statement, Set<DogField> fields) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql())) {
+                statement.bind(ps);
+                List<DogDTO> dogs = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        dogs.add(DogRowMapper.map(rs, fields));
+                    }
+                }
+                return dogs;
+            }
+        });
+    }
+
+    private long queryForLong(SqlStatement statement) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql())) {
+                statement.bind(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * A dog changed since a sync position; {@code dog} is {@code null} if it has been deleted.
+     */
+    public record ChangedRow(long id, long position, DogDTO dog) {
+    }
+
+    /**
+     * Streams the attributes roster statistics are grouped by for every non-deleted dog, in
+     * one scan, for seeding in-memory counters.
+     */
+    public void forEachStatsFacets(StatsFacetsConsumer consumer) {
+        jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id, status_id, leaving_reason_id, gender, breed, supplier, version FROM dog WHERE deleted = false")) {
+                ps.setFetchSize(SCAN_FETCH_SIZE);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class),
+                            rs.getString(4), rs.getString(5), rs.getString(6), rs.getLong(7));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    public interface StatsFacetsConsumer {
+        void accept(long id, long statusId, Long leavingReasonId, String gender, String breed, String supplier, long version);
+    }
+
+    @FunctionalInterface
+    public interface SearchTextConsumer {
+        void accept(long id, String name, String breed, String supplier, long version);
+    }
+}
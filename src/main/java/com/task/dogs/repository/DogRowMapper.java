@@ -0,0 +1,52 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Maps rows selected with {@link DogRepository#DOG_DTO_SELECT}, or a narrower select list, to
+ * {@link DogDTO}.
+ */
+final class DogRowMapper {
+
+    private DogRowMapper() {
+    }
+
+    static DogDTO map(ResultSet rs) throws SQLException {
+        return map(rs, DogField.ALL);
+    }
+
+    /**
+     * Reads only {@code fields}; the rest of the DTO is left {@code null}.
+     */
+    static DogDTO map(ResultSet rs, Set<DogField> fields) throws SQLException {
+        DogDTO dog = new DogDTO();
+        for (DogField field : fields) {
+            switch (field) {
+                case ID -> dog.setId(rs.getLong("id"));
+                case NAME -> dog.setName(rs.getString("name"));
+                case BREED -> dog.setBreed(rs.getString("breed"));
+                case SUPPLIER -> dog.setSupplier(rs.getString("supplier"));
+                case BADGE_ID -> dog.setBadgeId(rs.getString("badge_id"));
+                case GENDER -> dog.setGender(rs.getString("gender"));
+                case BIRTH_DATE -> dog.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+                case DATE_ACQUIRED -> dog.setDateAcquired(rs.getObject("date_acquired", LocalDate.class));
+                case STATUS_ID -> dog.setStatusId(rs.getLong("status_id"));
+                case STATUS_NAME -> dog.setStatusName(rs.getString("status_name"));
+                case LEAVING_DATE -> dog.setLeavingDate(rs.getObject("leaving_date", LocalDate.class));
+                case LEAVING_REASON_ID -> dog.setLeavingReasonId(rs.getObject("leaving_reason_id", Long.class));
+                case LEAVING_REASON_NAME -> dog.setLeavingReasonName(rs.getString("leaving_reason_name"));
+                case KENNELLING_CHARACTERISTIC -> dog.setKennellingCharacteristic(rs.getString("kennelling_characteristic"));
+                case UPDATED_AT -> dog.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+                case VERSION -> dog.setVersion(rs.getLong("version"));
+            }
+        }
+        return dog;
+    }
+}
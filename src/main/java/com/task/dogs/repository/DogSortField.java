@@ -0,0 +1,55 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Columns dogs can be keyset-paginated on. Each is backed by a {@code (deleted, column, id)} index.
+ */
+public enum DogSortField {
+    ID("id", "d.id", DogDTO::getId, Long::valueOf),
+    NAME("name", "d.name", DogDTO::getName, Function.identity()),
+    BREED("breed", "d.breed", DogDTO::getBreed, Function.identity()),
+    SUPPLIER("supplier", "d.supplier", DogDTO::getSupplier, Function.identity()),
+    BIRTH_DATE("birthDate", "d.birth_date", DogDTO::getBirthDate, LocalDate::parse),
+    DATE_ACQUIRED("dateAcquired", "d.date_acquired", DogDTO::getDateAcquired, LocalDate::parse);
+
+    private final String property;
+    private final String column;
+    private final Function<DogDTO, Object> extractor;
+    private final Function<String, Object> parser;
+
+    DogSortField(String property, String column,
+                 Function<DogDTO, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static Optional<DogSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+            .filter(field -> field.property.equals(property))
+            .findFirst();
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Object keyOf(DogDTO dog) {
+        return extractor.apply(dog);
+    }
+
+    public Object parseKey(String key) {
+        return parser.apply(key);
+    }
+}
@@ -0,0 +1,143 @@
+package com.task.dogs.repository;
+
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronization;
+import jakarta.inject.Singleton;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out the delta sync positions written to {@code dog.change_seq}, and tells readers which
+ * of them are final.
+ * <p>
+ * Every dog write reserves a position inside its transaction, before its statement runs, and the
+ * position stays in flight until that transaction commits or rolls back. Positions are handed out
+ * in increasing order but transactions commit in any order, so readers only go up to
+ * {@link #stable()}, just below the oldest position still in flight: nothing at or below it can
+ * still commit. A transaction held up by a lock wait holds sync back rather than being skipped.
+ * The same bound versions listings: it moves, and its {@link Mark} with it, only once a write
+ * has committed and every write before it has completed.
+ * <p>
+ * Like the other in-memory state derived from writes, this assumes one application instance
+ * writes the database.
+ */
+@Singleton
+public class DogSyncClock {
+
+    private static final String MAX_POSITION = "SELECT GREATEST(" +
+        "(SELECT COALESCE(MAX(change_seq), 0) FROM dog), (SELECT COALESCE(MAX(change_seq), 0) FROM dog_archive))";
+
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Only accessed under lock; last is loaded from the tables on first use. Nothing has moved
+    // since startup until a write completes
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long last = -1;
+    private Instant advancedAt = Instant.now();
+
+    public DogSyncClock(JdbcOperations jdbcOperations, TransactionOperations<Connection> transactionOperations) {
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Reserves the next position for a write in the current transaction. It counts as in flight
+     * until the transaction completes.
+     *
+     * @throws IllegalStateException if there is no transaction to tie the position to
+     */
+    public long reserve() {
+        TransactionStatus<Connection> status = transactionOperations.findTransactionStatus()
+            .orElseThrow(() -> new IllegalStateException("Dog writes must run in a transaction"));
+        long position;
+        lock.lock();
+        try {
+            position = loaded() + 1;
+            last = position;
+            inFlight.add(position);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            status.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(Status completion) {
+                    release(position);
+                }
+            });
+        } catch (RuntimeException e) {
+            release(position);
+            throw e;
+        }
+        return position;
+    }
+
+    /**
+     * Highest position no write still in flight can come in at or below.
+     */
+    public long stable() {
+        lock.lock();
+        try {
+            return stablePosition();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@link #stable()} with the time it last moved, for versioning views of the table without
+     * reading it.
+     */
+    public Mark mark() {
+        lock.lock();
+        try {
+            return new Mark(stablePosition(), advancedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long stablePosition() {
+        return inFlight.isEmpty() ? loaded() : inFlight.first() - 1;
+    }
+
+    private void release(long position) {
+        lock.lock();
+        try {
+            // Completing the oldest write in flight is what moves the stable position
+            if (inFlight.remove(position) && (inFlight.isEmpty() || position < inFlight.first())) {
+                advancedAt = Instant.now();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long loaded() {
+        if (last < 0) {
+            last = jdbcOperations.execute(connection -> {
+                try (PreparedStatement ps = connection.prepareStatement(MAX_POSITION);
+                     ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            });
+        }
+        return last;
+    }
+
+    /**
+     * A stable position and when it was reached: after the commit of every write at or below it.
+     */
+    public record Mark(long position, Instant advancedAt) {
+    }
+}
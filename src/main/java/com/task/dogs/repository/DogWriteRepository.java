@@ -0,0 +1,302 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogPatch;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.metrics.QueryTimed;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import jakarta.inject.Singleton;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+/**
+ * Multi-row dog writes issued as JDBC batches. Callers own the transaction.
+ */
+@Singleton
+@QueryTimed
+public class DogWriteRepository {
+
+    private static final String INSERT = "INSERT INTO dog (name, breed, supplier, badge_id, gender, birth_date, " +
+        "date_acquired, status_id, leaving_date, leaving_reason_id, kennelling_characteristic, deleted, " +
+        "created_at, updated_at, change_seq) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE dog SET name = ?, breed = ?, supplier = ?, badge_id = ?, " +
+        "gender = ?, birth_date = ?, date_acquired = ?, status_id = ?, leaving_date = ?, leaving_reason_id = ?, " +
+        "kennelling_characteristic = ?, updated_at = ?, change_seq = ?, version = version + 1 WHERE id = ? AND deleted = false";
+
+    /**
+     * {@link #UPDATE} that also matches on the expected version, read back through H2's delta
+     * table so the new version comes from the same statement.
+     */
+    private static final String UPDATE_VERSIONED = "SELECT version FROM FINAL TABLE (" + UPDATE + " AND version = ?)";
+
+    private static final String UPDATE_RETURNING = "SELECT version FROM FINAL TABLE (" + UPDATE + ")";
+
+    /**
+     * {@link #UPDATE} for batches, where items with and without an expected version share one
+     * statement: a {@code null} version matches any.
+     */
+    private static final String UPDATE_BATCH = UPDATE + " AND (CAST(? AS BIGINT) IS NULL OR version = ?)";
+
+    private static final String VERSIONS = "SELECT id, version FROM dog WHERE id = ANY(?) AND deleted = false";
+
+    /**
+     * Row as {@link DogRowMapper} reads it, minus the lookup names (callers fill those in from
+     * the lookup cache), for reading back a patched row.
+     */
+    private static final String PATCH_RETURNING = "SELECT id, name, breed, supplier, badge_id, gender, birth_date, " +
+        "date_acquired, status_id, NULL AS status_name, leaving_date, leaving_reason_id, NULL AS leaving_reason_name, " +
+        "kennelling_characteristic, updated_at, version FROM FINAL TABLE (";
+
+    private final JdbcOperations jdbcOperations;
+    private final DogSyncClock syncClock;
+
+    public DogWriteRepository(JdbcOperations jdbcOperations, DogSyncClock syncClock) {
+        this.jdbcOperations = jdbcOperations;
+        this.syncClock = syncClock;
+    }
+
+    /**
+     * Inserts all dogs in one batch and returns their generated ids, in order. Sets each DTO's
+     * {@code updatedAt} to the written value.
+     */
+    public long[] insertAll(List<DogDTO> dogs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long position = syncClock.reserve();
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT, new String[] {"id"})) {
+                for (DogDTO dog : dogs) {
+                    bindColumns(ps, dog);
+                    ps.setTimestamp(12, now);
+                    ps.setTimestamp(13, now);
+                    ps.setLong(14, position);
+                    dog.setUpdatedAt(now.toLocalDateTime());
+                    dog.setVersion(0L);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                long[] ids = new long[dogs.size()];
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < ids.length && keys.next(); i++) {
+                        ids[i] = keys.getLong(1);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Updates one dog in a single statement, only if it is not deleted and, when
+     * {@code expectedVersion} is given, still at that version. Returns the new version, or empty if
+     * no row matched. Sets the DTO's {@code updatedAt} and {@code version} to the written values.
+     */
+    public OptionalLong update(DogDTO dog, Long expectedVersion) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long position = syncClock.reserve();
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(expectedVersion != null ? UPDATE_VERSIONED : UPDATE_RETURNING)) {
+                bindColumns(ps, dog);
+                ps.setTimestamp(12, now);
+                ps.setLong(13, position);
+                ps.setLong(14, dog.getId());
+                if (expectedVersion != null) {
+                    ps.setLong(15, expectedVersion);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        return OptionalLong.empty();
+                    }
+                    long version = rs.getLong(1);
+                    dog.setUpdatedAt(now.toLocalDateTime());
+                    dog.setVersion(version);
+                    return OptionalLong.of(version);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes only the columns in {@code patch} (plus {@code updated_at} and {@code version}) in a
+     * single statement that also returns the resulting row, under the same conditions as
+     * {@link #update}. Returns empty if no row matched; lookup names are not set.
+     */
+    public Optional<DogDTO> patch(long id, DogPatch patch, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder(PATCH_RETURNING).append("UPDATE dog SET ");
+        for (DogPatch.Field field : patch.getValues().keySet()) {
+            sql.append(field.getColumn()).append(" = ?, ");
+        }
+        sql.append("updated_at = ?, change_seq = ?, version = version + 1 WHERE id = ? AND deleted = false");
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+        }
+        sql.append(")");
+        long position = syncClock.reserve();
+
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (Map.Entry<DogPatch.Field, Object> value : patch.getValues().entrySet()) {
+                    if (value.getValue() == null) {
+                        ps.setNull(index++, value.getKey().getSqlType());
+                    } else {
+                        ps.setObject(index++, value.getValue());
+                    }
+                }
+                ps.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+                ps.setLong(index++, position);
+                ps.setLong(index++, id);
+                if (expectedVersion != null) {
+                    ps.setLong(index, expectedVersion);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? Optional.of(DogRowMapper.map(rs)) : Optional.empty();
+                }
+            }
+        });
+    }
+
+    /**
+     * Soft-deletes the given dogs in one statement and returns the ids it actually deleted
+     * (ids that don't exist or are already deleted are left out), ascending.
+     */
+    public long[] softDeleteAll(long[] ids) {
+        SqlStatement statement = softDeleteStatement()
+            .append(" AND d.id = ANY(?))", Arrays.stream(ids).boxed().toArray(Long[]::new));
+        return deletedIds(statement);
+    }
+
+    /**
+     * Soft-deletes every non-deleted dog matching {@code criteria} in one statement and returns
+     * their ids, ascending. Filters match exactly as they do for listings.
+     */
+    public long[] softDeleteMatching(DogSearchCriteria criteria) {
+        SqlStatement statement = softDeleteStatement();
+        DogQueryRepository.appendFilters(criteria, statement);
+        return deletedIds(statement.append(")"));
+    }
+
+    private SqlStatement softDeleteStatement() {
+        return new SqlStatement("SELECT id FROM FINAL TABLE (UPDATE dog d SET deleted = true, version = version + 1")
+            .append(", updated_at = ?", Timestamp.valueOf(LocalDateTime.now()))
+            .append(", change_seq = ?", syncClock.reserve())
+            .append(" WHERE d.deleted = false");
+    }
+
+    private long[] deletedIds(SqlStatement statement) {
+        return jdbcOperations.execute(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql())) {
+                statement.bind(ps);
+                LongStream.Builder ids = LongStream.builder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getLong(1));
+                    }
+                }
+                return ids.build().sorted().toArray();
+            }
+        });
+    }
+
+    /**
+     * Updates all dogs (by id, skipping deleted ones) in one batch and returns what happened to
+     * each. A DTO carrying a {@code version} is only written if the row is still at that version,
+     * like {@link #update} with an expected version. Sets each updated DTO's {@code updatedAt} and
+     * {@code version} to the written values.
+     * <p>
+     * JDBC batches can't return a result set per statement, so the new versions are read back in one
+     * query after the batch. That needs the caller's transaction: the updated rows stay locked until
+     * it commits, so what is read back is what this batch wrote.
+     */
+    public BatchUpdate[] updateAll(List<DogDTO> dogs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long position = syncClock.reserve();
+        return jdbcOperations.execute(connection -> {
+            int[] counts;
+            boolean[] versioned = new boolean[dogs.size()];
+            try (PreparedStatement ps = connection.prepareStatement(UPDATE_BATCH)) {
+                for (int i = 0; i < dogs.size(); i++) {
+                    DogDTO dog = dogs.get(i);
+                    bindColumns(ps, dog);
+                    ps.setTimestamp(12, now);
+                    ps.setLong(13, position);
+                    ps.setLong(14, dog.getId());
+                    ps.setObject(15, dog.getVersion(), Types.BIGINT);
+                    ps.setObject(16, dog.getVersion(), Types.BIGINT);
+                    versioned[i] = dog.getVersion() != null;
+                    dog.setUpdatedAt(now.toLocalDateTime());
+                    dog.setVersion(null);
+                    ps.addBatch();
+                }
+                counts = ps.executeBatch();
+            }
+
+            Map<Long, Long> versions = new HashMap<>();
+            try (PreparedStatement ps = connection.prepareStatement(VERSIONS)) {
+                ps.setObject(1, dogs.stream().map(DogDTO::getId).distinct().toArray(Long[]::new));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        versions.put(rs.getLong(1), rs.getLong(2));
+                    }
+                }
+            }
+            // A dog listed twice was bumped once per update, so earlier items get the earlier versions.
+            // An item that wrote nothing although its dog is live had a stale version
+            BatchUpdate[] outcomes = new BatchUpdate[dogs.size()];
+            for (int i = dogs.size() - 1; i >= 0; i--) {
+                DogDTO dog = dogs.get(i);
+                Long version = versions.get(dog.getId());
+                if (counts[i] == 0) {
+                    outcomes[i] = version != null && versioned[i] ? BatchUpdate.STALE : BatchUpdate.NOT_FOUND;
+                } else {
+                    outcomes[i] = BatchUpdate.UPDATED;
+                    if (version != null) {
+                        dog.setVersion(version);
+                        versions.put(dog.getId(), version - 1);
+                    }
+                }
+            }
+            return outcomes;
+        });
+    }
+
+    /**
+     * What {@link #updateAll} did with one item.
+     */
+    public enum BatchUpdate {
+        UPDATED,
+        NOT_FOUND,
+        STALE
+    }
+
+    private static void bindColumns(PreparedStatement ps, DogDTO dog) throws SQLException {
+        ps.setString(1, dog.getName());
+        ps.setString(2, dog.getBreed());
+        ps.setString(3, dog.getSupplier());
+        ps.setString(4, dog.getBadgeId());
+        ps.setString(5, dog.getGender());
+        ps.setObject(6, dog.getBirthDate());
+        ps.setObject(7, dog.getDateAcquired());
+        ps.setLong(8, dog.getStatusId());
+        ps.setObject(9, dog.getLeavingDate(), Types.DATE);
+        if (dog.getLeavingReasonId() != null) {
+            ps.setLong(10, dog.getLeavingReasonId());
+        } else {
+            ps.setNull(10, Types.BIGINT);
+        }
+        ps.setString(11, dog.getKennellingCharacteristic());
+    }
+}
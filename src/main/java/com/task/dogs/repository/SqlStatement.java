@@ -0,0 +1,44 @@
+package com.task.dogs.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A SQL string assembled piece by piece together with its positional bind parameters.
+ */
+final class SqlStatement {
+
+    private final StringBuilder sql;
+    private final List<Object> params = new ArrayList<>();
+
+    SqlStatement(String sql) {
+        this.sql = new StringBuilder(sql);
+    }
+
+    SqlStatement append(String fragment) {
+        sql.append(fragment);
+        return this;
+    }
+
+    SqlStatement append(String fragment, Object param) {
+        sql.append(fragment);
+        params.add(param);
+        return this;
+    }
+
+    String sql() {
+        return sql.toString();
+    }
+
+    List<Object> params() {
+        return params;
+    }
+
+    void bind(PreparedStatement ps) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            ps.setObject(i + 1, params.get(i));
+        }
+    }
+}
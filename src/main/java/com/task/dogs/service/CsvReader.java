@@ -0,0 +1,126 @@
+package com.task.dogs.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, fields optionally quoted with {@code "},
+ * {@code ""} inside quotes for a literal quote, line breaks allowed inside quoted fields. Reads
+ * one record at a time, so memory is bounded by the longest record. Not thread-safe.
+ */
+final class CsvReader {
+
+    /**
+     * One record and the (1-based) line it starts on.
+     */
+    record Record(long line, List<String> values) {
+
+        String get(int column) {
+            return column >= 0 && column < values.size() ? values.get(column) : null;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long line = 1;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next non-empty record, or {@code null} at end of input.
+     */
+    Record next() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                consumeLineBreak();
+                continue;
+            }
+            return readRecord();
+        }
+    }
+
+    private Record readRecord() throws IOException {
+        long startLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + startLine);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c != -1) {
+                    position--;
+                    consumeLineBreak();
+                }
+                values.add(field.toString());
+                return new Record(startLine, values);
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void consumeLineBreak() throws IOException {
+        if (read() == '\r' && peek() == '\n') {
+            read();
+        }
+        line++;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.ArchiveRun;
+import com.task.dogs.domain.dto.CursorPage;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.exception.ConflictException;
+import com.task.dogs.exception.ResourceNotFoundException;
+import com.task.dogs.repository.DogArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves dogs that have been soft-deleted for longer than {@code dogs.archive.retention} from
+ * {@code dog} to {@code dog_archive}, so the hot table stays proportional to the active roster.
+ * <p>
+ * Runs on a fixed delay and works in chunks of {@code dogs.archive.chunk-size}, each its own
+ * short transaction, pausing between chunks so live writes aren't queued behind it. Deleted
+ * dogs have already left every cache and index, so moving them publishes no change events.
+ */
+@Singleton
+@Requires(property = "dogs.archive.enabled", notEquals = "false")
+public class DogArchiver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogArchiver.class);
+
+    private final DogArchiveRepository archiveRepository;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration pause;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter movedCounter;
+    private final DistributionSummary movedPerRun;
+    private final Timer runTimer;
+
+    public DogArchiver(DogArchiveRepository archiveRepository,
+                       TransactionOperations<Connection> transactionOperations,
+                       MeterRegistry meterRegistry,
+                       @Value("${dogs.archive.retention:30d}") Duration retention,
+                       @Value("${dogs.archive.chunk-size:500}") int chunkSize,
+                       @Value("${dogs.archive.pause:100ms}") Duration pause) {
+        this.archiveRepository = archiveRepository;
+        this.transactionOperations = transactionOperations;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.movedCounter = Counter.builder("dogs.archive.moved")
+            .description("Soft-deleted dogs moved to dog_archive")
+            .register(meterRegistry);
+        this.movedPerRun = DistributionSummary.builder("dogs.archive.run.rows")
+            .description("Dogs moved to dog_archive per archival run")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("dogs.archive.run")
+            .description("Duration of an archival run")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = "${dogs.archive.interval:1h}", initialDelay = "${dogs.archive.initial-delay:5m}")
+    public void scheduledRun() {
+        try {
+            archiveDeletedBefore(LocalDateTime.now().minus(retention));
+        } catch (ConflictException e) {
+            LOG.debug("Skipping scheduled archival: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            LOG.warn("Archival run failed", e);
+        }
+    }
+
+    /**
+     * Archives everything deleted before {@code cutoff}, chunk by chunk. Only one run at a time.
+     *
+     * @throws ConflictException if a run is already in progress
+     */
+    public ArchiveRun archiveDeletedBefore(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An archival run is already in progress");
+        }
+        long start = System.nanoTime();
+        int moved = 0;
+        int chunks = 0;
+        try {
+            while (true) {
+                int movedInChunk = transactionOperations.executeWrite(status -> {
+                    long[] ids = archiveRepository.findArchivable(cutoff, chunkSize);
+                    return ids.length == 0 ? 0 : archiveRepository.moveToArchive(ids);
+                });
+                if (movedInChunk == 0) {
+                    break;
+                }
+                moved += movedInChunk;
+                chunks++;
+                movedCounter.increment(movedInChunk);
+                if (movedInChunk < chunkSize) {
+                    break;
+                }
+                pauseBetweenChunks();
+            }
+        } finally {
+            running.set(false);
+        }
+        long elapsed = System.nanoTime() - start;
+        runTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        movedPerRun.record(moved);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        if (moved > 0) {
+            LOG.info("Archived {} deleted dogs in {} chunks ({} ms)", moved, chunks, durationMs);
+        }
+        return new ArchiveRun(moved, chunks, durationMs);
+    }
+
+    /**
+     * Archives everything past the configured retention now, rather than at the next scheduled run.
+     */
+    public ArchiveRun archiveNow() {
+        return archiveDeletedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    public DogDTO getArchivedDog(long id) {
+        return archiveRepository.findArchived(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Archived dog not found with id: " + id));
+    }
+
+    /**
+     * Archived dogs in id order; {@code after} is the {@code next} token of the previous page.
+     */
+    public CursorPage<DogDTO> getArchivedDogs(Long after, int size) {
+        List<DogDTO> dogs = archiveRepository.findArchivedPage(after != null ? after : 0L, size + 1);
+        String next = null;
+        if (dogs.size() > size) {
+            dogs = dogs.subList(0, size);
+            next = String.valueOf(dogs.get(size - 1).getId());
+        }
+        return new CursorPage<>(dogs, size, next);
+    }
+
+    private void pauseBetweenChunks() {
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Archival interrupted", e);
+        }
+    }
+}
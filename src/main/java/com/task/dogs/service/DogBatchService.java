@@ -0,0 +1,237 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.BatchItemResult;
+import com.task.dogs.domain.dto.BatchResult;
+import com.task.dogs.domain.dto.BulkDeleteResult;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.domain.event.DogChangeEvent;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.repository.DogWriteRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Creates, updates or deletes many dogs per request. Every item is validated and its lookups resolved
+ * before anything is written; valid items are then written with JDBC batches in chunks, one
+ * transaction per chunk, so one bad chunk doesn't roll back the others.
+ */
+@Singleton
+public class DogBatchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogBatchService.class);
+
+    private final DogWriteRepository dogWriteRepository;
+    private final LookupCache lookupCache;
+    private final Validator validator;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final ApplicationEventPublisher<DogChangeEvent> eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DogBatchService(DogWriteRepository dogWriteRepository,
+                           LookupCache lookupCache,
+                           Validator validator,
+                           TransactionOperations<Connection> transactionOperations,
+                           ApplicationEventPublisher<DogChangeEvent> eventPublisher,
+                           @Value("${dogs.batch.chunk-size:500}") int chunkSize,
+                           @Value("${dogs.batch.max-items:10000}") int maxItems) {
+        this.dogWriteRepository = dogWriteRepository;
+        this.lookupCache = lookupCache;
+        this.validator = validator;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BatchResult createDogs(List<DogDTO> dogs) {
+        return process(dogs, false);
+    }
+
+    public BatchResult updateDogs(List<DogDTO> dogs) {
+        return process(dogs, true);
+    }
+
+    /**
+     * Soft-deletes the given dogs with a single statement in one transaction. Ids that don't
+     * exist or are already deleted are reported as {@code NOT_FOUND}.
+     */
+    public BatchResult deleteDogs(List<Long> ids) {
+        if (ids.size() > maxItems) {
+            throw new BadRequestException("Batch size " + ids.size() + " exceeds the limit of " + maxItems);
+        }
+        long[] requested = ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray();
+        long[] deleted = requested.length == 0 ? requested : transactionOperations.executeWrite(status -> {
+            long[] written = dogWriteRepository.softDeleteAll(requested);
+            for (long id : written) {
+                eventPublisher.publishEvent(DogChangeEvent.deleted(id));
+            }
+            return written;
+        });
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results.add(BatchItemResult.failure(i, null, BatchItemResult.Status.INVALID, List.of("Id is required")));
+            } else if (Arrays.binarySearch(deleted, id) >= 0) {
+                results.add(BatchItemResult.success(i, id, BatchItemResult.Status.DELETED));
+            } else {
+                results.add(BatchItemResult.failure(i, id, BatchItemResult.Status.NOT_FOUND, List.of("Dog not found with id: " + id)));
+            }
+        }
+        return new BatchResult(results);
+    }
+
+    /**
+     * Soft-deletes every dog a listing with the same filters would return, with a single
+     * statement. At least one filter is required so an empty query string can't wipe the table.
+     */
+    public BulkDeleteResult deleteMatching(DogSearchCriteria criteria) {
+        if (!criteria.hasFilters()) {
+            throw new BadRequestException("Bulk delete requires at least one filter");
+        }
+        long[] deleted = transactionOperations.executeWrite(status -> {
+            long[] written = dogWriteRepository.softDeleteMatching(criteria);
+            for (long id : written) {
+                eventPublisher.publishEvent(DogChangeEvent.deleted(id));
+            }
+            return written;
+        });
+        LOG.info("Bulk delete matching {} removed {} dogs", criteria.cacheKey(), deleted.length);
+        return new BulkDeleteResult(deleted);
+    }
+
+    private BatchResult process(List<DogDTO> dogs, boolean update) {
+        if (dogs.size() > maxItems) {
+            throw new BadRequestException("Batch size " + dogs.size() + " exceeds the limit of " + maxItems);
+        }
+
+        BatchItemResult[] results = new BatchItemResult[dogs.size()];
+        List<Integer> valid = new ArrayList<>(dogs.size());
+        for (int i = 0; i < dogs.size(); i++) {
+            DogDTO dog = dogs.get(i);
+            List<String> errors = validate(dog, update);
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = BatchItemResult.failure(i, dog.getId(), BatchItemResult.Status.INVALID, errors);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            List<DogDTO> items = chunk.stream().map(dogs::get).toList();
+            try {
+                if (update) {
+                    writeUpdates(chunk, items, results);
+                } else {
+                    writeInserts(chunk, items, results);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Batch chunk of {} dogs failed", items.size(), e);
+                for (int index : chunk) {
+                    results[index] = BatchItemResult.failure(index, dogs.get(index).getId(),
+                        BatchItemResult.Status.FAILED, List.of(String.valueOf(e.getMessage())));
+                }
+            }
+        }
+        return new BatchResult(Arrays.asList(results));
+    }
+
+    private void writeInserts(List<Integer> chunk, List<DogDTO> items, BatchItemResult[] results) {
+        long[] ids = transactionOperations.executeWrite(status -> {
+            long[] generated = dogWriteRepository.insertAll(items);
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).setId(generated[i]);
+                eventPublisher.publishEvent(DogChangeEvent.created(items.get(i)));
+            }
+            return generated;
+        });
+        for (int i = 0; i < chunk.size(); i++) {
+            results[chunk.get(i)] = BatchItemResult.success(chunk.get(i), ids[i], BatchItemResult.Status.CREATED);
+        }
+    }
+
+    /**
+     * Items carrying a {@code version} are only written if the dog is still at it, as for a
+     * single {@code PUT}; otherwise they fail with {@code CONFLICT} and the rest of the chunk is
+     * written anyway.
+     */
+    private void writeUpdates(List<Integer> chunk, List<DogDTO> items, BatchItemResult[] results) {
+        Long[] expected = items.stream().map(DogDTO::getVersion).toArray(Long[]::new);
+        DogWriteRepository.BatchUpdate[] outcomes = transactionOperations.executeWrite(status -> {
+            DogWriteRepository.BatchUpdate[] written = dogWriteRepository.updateAll(items);
+            for (int i = 0; i < items.size(); i++) {
+                if (written[i] == DogWriteRepository.BatchUpdate.UPDATED) {
+                    eventPublisher.publishEvent(DogChangeEvent.updated(items.get(i)));
+                }
+            }
+            return written;
+        });
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            Long id = items.get(i).getId();
+            results[index] = switch (outcomes[i]) {
+                case UPDATED -> BatchItemResult.success(index, id, BatchItemResult.Status.UPDATED);
+                case STALE -> BatchItemResult.failure(index, id, BatchItemResult.Status.CONFLICT,
+                    List.of("Dog " + id + " has been modified since version " + expected[i]));
+                case NOT_FOUND -> BatchItemResult.failure(index, id, BatchItemResult.Status.NOT_FOUND,
+                    List.of("Dog not found with id: " + id));
+            };
+        }
+    }
+
+    /**
+     * Bean Validation plus lookup resolution. Resolved lookup names are copied onto the DTO so
+     * the change events carry the complete dog.
+     */
+    private List<String> validate(DogDTO dog, boolean update) {
+        List<String> errors = new ArrayList<>();
+        if (dog == null) {
+            errors.add("Dog is required");
+            return errors;
+        }
+        if (update && dog.getId() == null) {
+            errors.add("Id is required");
+        }
+        for (ConstraintViolation<DogDTO> violation : validator.validate(dog)) {
+            errors.add(violation.getMessage());
+        }
+        if (dog.getStatusId() != null) {
+            Optional<DogStatus> status = lookupCache.findStatus(dog.getStatusId());
+            if (status.isPresent()) {
+                dog.setStatusName(status.get().getStatusName());
+            } else {
+                errors.add("Status not found with id: " + dog.getStatusId());
+            }
+        }
+        if (dog.getLeavingReasonId() != null) {
+            Optional<LeavingReason> reason = lookupCache.findReason(dog.getLeavingReasonId());
+            if (reason.isPresent()) {
+                dog.setLeavingReasonName(reason.get().getReasonName());
+            } else {
+                errors.add("Leaving reason not found with id: " + dog.getLeavingReasonId());
+            }
+        } else {
+            dog.setLeavingReasonName(null);
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,68 @@
+package com.task.dogs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.event.DogChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of single dogs for {@code GET /dogs/{id}}, bounded by size and
+ * time-to-live. Concurrent misses for the same id wait on one load instead of each querying.
+ * Missing or deleted dogs aren't cached.
+ * <p>
+ * Entries are dropped once a write to the dog commits. A load racing that write finishes before
+ * the invalidation removes it, so a stale row can't outlive the commit. Cached DTOs are shared
+ * between callers and must not be modified. Hit, miss, load and eviction counts are published as
+ * {@code cache.*} metrics tagged {@code cache=dogs.by-id}.
+ */
+@Singleton
+public class DogByIdCache {
+
+    private final Cache<Long, DogDTO> cache;
+
+    public DogByIdCache(@Value("${dogs.id-cache.max-size:10000}") long maxSize,
+                        @Value("${dogs.id-cache.ttl:5m}") Duration ttl,
+                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dogs.by-id");
+    }
+
+    /**
+     * The cached dog, or the result of {@code loader} (cached unless {@code null}).
+     */
+    public DogDTO get(Long id, Function<Long, DogDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * The cached dog, or {@code null} without loading it.
+     */
+    public DogDTO getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onDogChanged(DogChangeEvent event) {
+        invalidate(event.getId());
+    }
+}
@@ -0,0 +1,169 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogChange;
+import com.task.dogs.domain.event.DogChangeEvent;
+import com.task.dogs.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.sse.Event;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Committed dog changes, numbered and kept in a bounded ring buffer for the
+ * {@code GET /dogs/changes} Server-Sent Events stream.
+ * <p>
+ * Each change is serialized once when it is appended and shared by every subscriber.
+ * Subscribers read from the ring at their own pace; appending never waits for them. A subscriber
+ * that falls further behind than the ring holds (or resumes from an id the ring no longer has)
+ * gets a {@code resync} event and its stream ends, so it can reload and reconnect.
+ * <p>
+ * Sequences start from the boot time in milliseconds times 1000, so they keep increasing across
+ * restarts and ids from an earlier run always fall before the ring and trigger a resync.
+ */
+@Singleton
+public class DogChangeFeed {
+
+    static final String RESYNC = "resync";
+
+    private final JsonMapper jsonMapper;
+    private final ExecutorService executor;
+    private final Entry[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<DogChangePublisher.ChangeSubscription> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter resyncs;
+
+    // Guarded by lock; latest is the last assigned sequence
+    private final long base;
+    private long latest;
+
+    public DogChangeFeed(JsonMapper jsonMapper,
+                         @Named(TaskExecutors.BLOCKING) ExecutorService executor,
+                         MeterRegistry meterRegistry,
+                         @Value("${dogs.changes.buffer-size:4096}") int bufferSize) {
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+        this.ring = new Entry[bufferSize];
+        this.base = System.currentTimeMillis() * 1000;
+        this.latest = base;
+        Gauge.builder("dogs.changes.subscribers", subscribers, Set::size)
+            .description("Open change feed streams")
+            .register(meterRegistry);
+        this.resyncs = Counter.builder("dogs.changes.resyncs")
+            .description("Change feed subscribers told to resync because they fell behind the buffer")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onDogChanged(DogChangeEvent event) {
+        lock.lock();
+        try {
+            long sequence = latest + 1;
+            DogChange change = new DogChange(sequence, event.getType(), event.getId(), event.getDog(), Instant.now());
+            ring[(int) (sequence % ring.length)] = new Entry(sequence, event.getType().name().toLowerCase(Locale.ROOT), toJson(change));
+            latest = sequence;
+        } finally {
+            lock.unlock();
+        }
+        for (DogChangePublisher.ChangeSubscription subscriber : subscribers) {
+            subscriber.signal();
+        }
+    }
+
+    /**
+     * Stream of changes committed after {@code lastEventId}, or from now on if it is {@code null}.
+     */
+    public Publisher<Event<String>> subscribe(String lastEventId) {
+        long next;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            next = latestSequence() + 1;
+        } else {
+            try {
+                next = Long.parseLong(lastEventId.trim()) + 1;
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Last-Event-ID must be a change sequence number");
+            }
+        }
+        return new DogChangePublisher(this, next, executor);
+    }
+
+    long latestSequence() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code max} entries from sequence {@code from} on, or {@code null} if the ring can no
+     * longer serve {@code from} (overwritten, or not issued by this run).
+     */
+    List<Entry> read(long from, int max) {
+        lock.lock();
+        try {
+            long oldest = Math.max(base + 1, latest - ring.length + 1);
+            if (from < oldest || from > latest + 1) {
+                return null;
+            }
+            int count = (int) Math.min(max, latest - from + 1);
+            List<Entry> entries = new ArrayList<>(count);
+            for (long sequence = from; sequence < from + count; sequence++) {
+                entries.add(ring[(int) (sequence % ring.length)]);
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Entry resyncEntry() {
+        resyncs.increment();
+        long current = latestSequence();
+        return new Entry(current, RESYNC, "{\"latest\":" + current + "}");
+    }
+
+    void register(DogChangePublisher.ChangeSubscription subscription) {
+        subscribers.add(subscription);
+    }
+
+    void unregister(DogChangePublisher.ChangeSubscription subscription) {
+        subscribers.remove(subscription);
+    }
+
+    private String toJson(DogChange change) {
+        try {
+            return jsonMapper.writeValueAsString(change);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize dog change " + change.getSequence(), e);
+        }
+    }
+
+    /**
+     * A serialized change: SSE id, event name and JSON data.
+     */
+    record Entry(long sequence, String name, String json) {
+
+        Event<String> toEvent() {
+            return Event.of(json).id(Long.toString(sequence)).name(name);
+        }
+    }
+}
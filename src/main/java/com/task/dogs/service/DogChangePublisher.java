@@ -0,0 +1,143 @@
+package com.task.dogs.service;
+
+import io.micronaut.http.sse.Event;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits {@link DogChangeFeed} entries from a starting sequence, no faster than the subscriber
+ * has requested. Reads run on {@code executor}; the feed only {@link ChangeSubscription#signal()
+ * signals} a subscription after appending, so a slow subscriber never holds up a write. If the
+ * subscriber's position has been overwritten in the ring, it gets a {@code resync} event and the
+ * stream completes.
+ */
+final class DogChangePublisher implements Publisher<Event<String>> {
+
+    private static final int READ_BATCH = 256;
+
+    private final DogChangeFeed feed;
+    private final long from;
+    private final Executor executor;
+
+    DogChangePublisher(DogChangeFeed feed, long from, Executor executor) {
+        this.feed = feed;
+        this.from = from;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Event<String>> subscriber) {
+        ChangeSubscription subscription = new ChangeSubscription(subscriber, from);
+        feed.register(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    final class ChangeSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super Event<String>> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only touched by the draining thread, which the wip counter makes exclusive
+        private long next;
+        private boolean done;
+
+        ChangeSubscription(Subscriber<? super Event<String>> subscriber, long next) {
+            this.subscriber = subscriber;
+            this.next = next;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Request must be positive, was " + n);
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        /**
+         * Schedules a drain; returns immediately.
+         */
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    List<DogChangeFeed.Entry> entries = feed.read(next, (int) Math.min(READ_BATCH, demand - emitted));
+                    if (entries == null) {
+                        finish();
+                        subscriber.onNext(feed.resyncEntry().toEvent());
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (entries.isEmpty()) {
+                        break;
+                    }
+                    for (DogChangeFeed.Entry entry : entries) {
+                        subscriber.onNext(entry.toEvent());
+                    }
+                    next += entries.size();
+                    emitted += entries.size();
+                }
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            } catch (RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            feed.unregister(this);
+        }
+    }
+}
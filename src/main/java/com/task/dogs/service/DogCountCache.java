@@ -0,0 +1,67 @@
+package com.task.dogs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.event.DogChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches listing totals per normalized filter set so paged listings don't pay for a
+ * {@code COUNT(*)} on every request. Any committed dog write clears the whole cache, since
+ * a single create/update/delete can move the count of arbitrary filter combinations.
+ * <p>
+ * Each total is stored with the write generation that was current before it was counted, and
+ * only served while that generation still is. A count that raced a write can therefore still be
+ * stored after the clear, but it is never read. Bounded to {@code dogs.count-cache.max-entries}
+ * filter sets, least recently used evicted first; stats are published as {@code cache.*}
+ * metrics tagged {@code cache=dogs.count}.
+ */
+@Singleton
+public class DogCountCache {
+
+    private final Cache<String, Total> counts;
+    private final AtomicLong generation = new AtomicLong();
+
+    public DogCountCache(@Value("${dogs.count-cache.max-entries:1024}") int maxEntries,
+                         MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "dogs.count");
+    }
+
+    public long count(DogSearchCriteria criteria, LongSupplier loader) {
+        String key = criteria.cacheKey();
+        long current = generation.get();
+        Total cached = counts.getIfPresent(key);
+        if (cached != null && cached.generation() == current) {
+            return cached.count();
+        }
+
+        long count = loader.getAsLong();
+        counts.put(key, new Total(current, count));
+        return count;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        counts.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onDogChanged(DogChangeEvent event) {
+        invalidateAll();
+    }
+
+    private record Total(long generation, long count) {
+    }
+}
@@ -0,0 +1,390 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.ImportReport;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.domain.event.DogChangeEvent;
+import com.task.dogs.repository.DogWriteRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bulk dog import from CSV.
+ * <p>
+ * The file is parsed on the calling thread, one record at a time, and handed out in chunks to
+ * a pool of validator threads (one per core by default). They bind each row to a {@link DogDTO},
+ * resolve status and leaving reason names against maps built once up front, and run the DTO's
+ * Bean Validation constraints. Valid rows go through a bounded queue to a few writer threads,
+ * each inserting its batches with {@link DogWriteRepository#insertAll} in its own transaction.
+ * Both hand-offs block when full, so a large file never sits in memory.
+ * <p>
+ * Each inserted batch publishes a {@link DogChangeEvent#created} per dog, like a batch create,
+ * so caches, the search index, statistics and the change feed follow the import as its
+ * transactions commit. A row whose validation throws is rejected with the exception message.
+ */
+@Singleton
+public class DogCsvImporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogCsvImporter.class);
+    private static final List<ImportRow> END_OF_INPUT = List.of();
+
+    private final DogWriteRepository dogWriteRepository;
+    private final LookupCache lookupCache;
+    private final Validator validator;
+    private final TransactionOperations<Connection> transactionOperations;
+    private final ApplicationEventPublisher<DogChangeEvent> eventPublisher;
+    private final int batchSize;
+    private final int writers;
+    private final int validators;
+    private final int maxReportedRejections;
+
+    public DogCsvImporter(DogWriteRepository dogWriteRepository,
+                          LookupCache lookupCache,
+                          Validator validator,
+                          TransactionOperations<Connection> transactionOperations,
+                          ApplicationEventPublisher<DogChangeEvent> eventPublisher,
+                          @Value("${dogs.import.batch-size:1000}") int batchSize,
+                          @Value("${dogs.import.writers:4}") int writers,
+                          @Value("${dogs.import.validators:0}") int validators,
+                          @Value("${dogs.import.max-reported-rejections:1000}") int maxReportedRejections) {
+        this.dogWriteRepository = dogWriteRepository;
+        this.lookupCache = lookupCache;
+        this.validator = validator;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.writers = writers;
+        this.validators = validators > 0 ? validators : Runtime.getRuntime().availableProcessors();
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * Imports every row of {@code source}, whose first record must be a header naming the
+     * columns (matched case-insensitively, ignoring {@code _} and spaces: {@code name},
+     * {@code breed}, {@code supplier}, {@code badgeId}, {@code gender}, {@code birthDate},
+     * {@code dateAcquired}, {@code status}, {@code leavingDate}, {@code leavingReason},
+     * {@code kennellingCharacteristic}). Status and leaving reason may be given by name or id.
+     */
+    public ImportReport importCsv(Reader source) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        CsvReader csv = new CsvReader(source);
+        CsvReader.Record header = csv.next();
+        if (header == null) {
+            return new ImportReport(0, 0, 0, 0, List.of());
+        }
+
+        List<DogStatus> statuses = lookupCache.getStatuses();
+        List<LeavingReason> reasons = lookupCache.getReasons();
+        RowBinder binder = new RowBinder(Columns.of(header),
+            lookupIds(statuses, DogStatus::getId, DogStatus::getStatusName),
+            lookupNames(statuses, DogStatus::getId, DogStatus::getStatusName),
+            lookupIds(reasons, LeavingReason::getId, LeavingReason::getReasonName),
+            lookupNames(reasons, LeavingReason::getId, LeavingReason::getReasonName));
+        Rejections rejections = new Rejections(maxReportedRejections);
+        AtomicLong imported = new AtomicLong();
+        BlockingQueue<List<ImportRow>> writeQueue = new ArrayBlockingQueue<>(writers * 2);
+
+        ExecutorService writerPool = Executors.newFixedThreadPool(writers, threadFactory("dog-import-writer"));
+        List<Future<?>> writerTasks = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            writerTasks.add(writerPool.submit(() -> writeLoop(writeQueue, imported, rejections)));
+        }
+        // Caller-runs once the queue is full: the reader helps validate instead of reading further ahead
+        ThreadPoolExecutor validatorPool = new ThreadPoolExecutor(validators, validators, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(validators * 2), threadFactory("dog-import-validator"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+        long rowsRead = 0;
+        try {
+            List<CsvReader.Record> chunk = new ArrayList<>(batchSize);
+            CsvReader.Record record;
+            while ((record = csv.next()) != null) {
+                rowsRead++;
+                chunk.add(record);
+                if (chunk.size() == batchSize) {
+                    submitChunk(validatorPool, chunk, binder, writeQueue, rejections);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submitChunk(validatorPool, chunk, binder, writeQueue, rejections);
+            }
+        } finally {
+            validatorPool.shutdown();
+            validatorPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            for (int i = 0; i < writers; i++) {
+                writeQueue.put(END_OF_INPUT);
+            }
+            writerPool.shutdown();
+        }
+        for (Future<?> task : writerTasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Import writer failed", e.getCause());
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        ImportReport report = new ImportReport(rowsRead, imported.get(), rejections.count(), elapsedMillis,
+            rejections.sorted());
+        LOG.info("Imported {} of {} dogs in {} ms ({} rows/s), {} rejected", report.getImported(), rowsRead,
+            elapsedMillis, Math.round(report.getRowsPerSecond()), report.getRejected());
+        return report;
+    }
+
+    private void submitChunk(ExecutorService pool, List<CsvReader.Record> chunk, RowBinder binder,
+                             BlockingQueue<List<ImportRow>> writeQueue, Rejections rejections) {
+        pool.execute(() -> {
+            List<ImportRow> valid = new ArrayList<>(chunk.size());
+            for (CsvReader.Record record : chunk) {
+                List<String> errors = new ArrayList<>();
+                DogDTO dog;
+                try {
+                    dog = binder.bind(record, errors);
+                    for (ConstraintViolation<DogDTO> violation : validator.validate(dog)) {
+                        errors.add(violation.getMessage());
+                    }
+                } catch (RuntimeException e) {
+                    LOG.warn("Validating import line {} failed", record.line(), e);
+                    rejections.add(record.line(), List.of("Validation failed: " + e.getMessage()));
+                    continue;
+                }
+                if (errors.isEmpty()) {
+                    valid.add(new ImportRow(record.line(), dog));
+                } else {
+                    rejections.add(record.line(), errors);
+                }
+            }
+            if (!valid.isEmpty()) {
+                try {
+                    writeQueue.put(valid);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    valid.forEach(row -> rejections.add(row.line(), List.of("Import interrupted")));
+                }
+            }
+        });
+    }
+
+    private void writeLoop(BlockingQueue<List<ImportRow>> writeQueue, AtomicLong imported, Rejections rejections)
+            throws InterruptedException {
+        while (true) {
+            List<ImportRow> batch = writeQueue.take();
+            if (batch == END_OF_INPUT) {
+                return;
+            }
+            List<DogDTO> dogs = batch.stream().map(ImportRow::dog).toList();
+            try {
+                transactionOperations.executeWrite(status -> {
+                    long[] ids = dogWriteRepository.insertAll(dogs);
+                    for (int i = 0; i < dogs.size(); i++) {
+                        dogs.get(i).setId(ids[i]);
+                        eventPublisher.publishEvent(DogChangeEvent.created(dogs.get(i)));
+                    }
+                    return ids;
+                });
+                imported.addAndGet(dogs.size());
+            } catch (RuntimeException e) {
+                LOG.warn("Import batch of {} rows starting on line {} failed", batch.size(), batch.get(0).line(), e);
+                batch.forEach(row -> rejections.add(row.line(), List.of("Insert failed: " + e.getMessage())));
+            }
+        }
+    }
+
+    private static <T> Map<String, Long> lookupIds(List<T> rows, Function<T, Long> id,
+                                                   Function<T, String> name) {
+        Map<String, Long> ids = new HashMap<>();
+        for (T row : rows) {
+            ids.put(id.apply(row).toString(), id.apply(row));
+            ids.put(name.apply(row).toLowerCase(Locale.ROOT), id.apply(row));
+        }
+        return ids;
+    }
+
+    private static <T> Map<Long, String> lookupNames(List<T> rows, Function<T, Long> id,
+                                                     Function<T, String> name) {
+        Map<Long, String> names = new HashMap<>();
+        for (T row : rows) {
+            names.put(id.apply(row), name.apply(row));
+        }
+        return names;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record ImportRow(long line, DogDTO dog) {
+    }
+
+    /**
+     * Header positions of the known columns; {@code -1} when absent.
+     */
+    private record Columns(int name, int breed, int supplier, int badgeId, int gender, int birthDate,
+                           int dateAcquired, int status, int leavingDate, int leavingReason,
+                           int kennellingCharacteristic) {
+
+        static Columns of(CsvReader.Record header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.values().size(); i++) {
+                positions.put(normalize(header.values().get(i)), i);
+            }
+            return new Columns(
+                positions.getOrDefault("name", -1),
+                positions.getOrDefault("breed", -1),
+                positions.getOrDefault("supplier", -1),
+                positions.getOrDefault("badgeid", -1),
+                positions.getOrDefault("gender", -1),
+                positions.getOrDefault("birthdate", -1),
+                positions.getOrDefault("dateacquired", -1),
+                firstPresent(positions, "status", "statusname", "statusid"),
+                positions.getOrDefault("leavingdate", -1),
+                firstPresent(positions, "leavingreason", "leavingreasonname", "leavingreasonid"),
+                positions.getOrDefault("kennellingcharacteristic", -1)
+            );
+        }
+
+        private static int firstPresent(Map<String, Integer> positions, String... names) {
+            for (String name : names) {
+                Integer position = positions.get(name);
+                if (position != null) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        private static String normalize(String column) {
+            return column.replace("_", "").replace(" ", "").trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Turns a record into a {@link DogDTO}, adding an error for every value that can't be
+     * converted. Resolved lookup names are set too, so the change events carry the complete dog.
+     * Stateless apart from the lookup maps, so shared by all validator threads.
+     */
+    private record RowBinder(Columns columns, Map<String, Long> statusIds, Map<Long, String> statusNames,
+                             Map<String, Long> reasonIds, Map<Long, String> reasonNames) {
+
+        DogDTO bind(CsvReader.Record record, List<String> errors) {
+            DogDTO dog = new DogDTO();
+            dog.setName(text(record, columns.name()));
+            dog.setBreed(text(record, columns.breed()));
+            dog.setSupplier(text(record, columns.supplier()));
+            dog.setBadgeId(text(record, columns.badgeId()));
+            dog.setGender(text(record, columns.gender()));
+            dog.setBirthDate(date(record, columns.birthDate(), "birthDate", errors));
+            dog.setDateAcquired(date(record, columns.dateAcquired(), "dateAcquired", errors));
+            dog.setStatusId(lookup(record, columns.status(), statusIds, "Status", errors));
+            dog.setStatusName(statusNames.get(dog.getStatusId()));
+            dog.setLeavingDate(date(record, columns.leavingDate(), "leavingDate", errors));
+            dog.setLeavingReasonId(lookup(record, columns.leavingReason(), reasonIds, "Leaving reason", errors));
+            dog.setLeavingReasonName(reasonNames.get(dog.getLeavingReasonId()));
+            dog.setKennellingCharacteristic(text(record, columns.kennellingCharacteristic()));
+            return dog;
+        }
+
+        private static String text(CsvReader.Record record, int column) {
+            String value = record.get(column);
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static LocalDate date(CsvReader.Record record, int column, String field, List<String> errors) {
+            String value = text(record, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add("Invalid " + field + ": " + value);
+                return null;
+            }
+        }
+
+        private static Long lookup(CsvReader.Record record, int column, Map<String, Long> ids, String label,
+                                   List<String> errors) {
+            String value = text(record, column);
+            if (value == null) {
+                return null;
+            }
+            Long id = ids.get(value.toLowerCase(Locale.ROOT));
+            if (id == null) {
+                errors.add(label + " not found: " + value);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Thread-safe rejection log that counts every rejection but keeps at most {@code limit} of
+     * them for the report.
+     */
+    private static final class Rejections {
+
+        private final int limit;
+        private final AtomicLong count = new AtomicLong();
+        private final ConcurrentLinkedQueue<ImportReport.Rejection> kept = new ConcurrentLinkedQueue<>();
+
+        Rejections(int limit) {
+            this.limit = limit;
+        }
+
+        void add(long line, List<String> errors) {
+            if (count.incrementAndGet() <= limit) {
+                kept.add(new ImportReport.Rejection(line, List.copyOf(errors)));
+            }
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        List<ImportReport.Rejection> sorted() {
+            return kept.stream().sorted(Comparator.comparingLong(ImportReport.Rejection::getLine)).toList();
+        }
+    }
+}
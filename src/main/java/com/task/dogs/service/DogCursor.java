@@ -0,0 +1,64 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.repository.DogSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort the page was produced with plus the last row's sort key and id.
+ * Encoded as URL-safe base64 of {@code property|direction|id|key}.
+ */
+public final class DogCursor {
+
+    private final DogSortField sort;
+    private final boolean descending;
+    private final long id;
+    private final Object key;
+
+    private DogCursor(DogSortField sort, boolean descending, long id, Object key) {
+        this.sort = sort;
+        this.descending = descending;
+        this.id = id;
+        this.key = key;
+    }
+
+    public static DogCursor after(DogDTO last, DogSortField sort, boolean descending) {
+        return new DogCursor(sort, descending, last.getId(), sort.keyOf(last));
+    }
+
+    public static DogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            DogSortField sort = DogSortField.fromProperty(parts[0])
+                .orElseThrow(IllegalArgumentException::new);
+            return new DogCursor(sort, "desc".equals(parts[1]), Long.parseLong(parts[2]), sort.parseKey(parts[3]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = sort.getProperty() + "|" + (descending ? "desc" : "asc") + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public DogSortField getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+}
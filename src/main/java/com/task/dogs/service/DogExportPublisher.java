@@ -0,0 +1,158 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.repository.DogExportCursor;
+import io.micronaut.json.JsonMapper;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits each row of a {@link DogExportCursor} as a JSON line, reading no further than the
+ * subscriber has requested. Cursor work runs on {@code executor}, never on the thread calling
+ * {@link Subscription#request}, which for an HTTP response is the event loop.
+ */
+final class DogExportPublisher implements Publisher<byte[]> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogExportPublisher.class);
+    private static final byte NEWLINE = '\n';
+
+    @FunctionalInterface
+    interface CursorOpener {
+        DogExportCursor open() throws SQLException;
+    }
+
+    private final CursorOpener opener;
+    private final JsonMapper jsonMapper;
+    private final Executor executor;
+
+    DogExportPublisher(CursorOpener opener, JsonMapper jsonMapper, Executor executor) {
+        this.opener = opener;
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super byte[]> subscriber) {
+        ExportSubscription subscription = new ExportSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class ExportSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super byte[]> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only touched by the draining thread, which the wip counter makes exclusive
+        private DogExportCursor cursor;
+        private boolean done;
+
+        ExportSubscription(Subscriber<? super byte[]> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Request must be positive, was " + n);
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (cursor == null) {
+                    cursor = opener.open();
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    DogDTO dog = cursor.next();
+                    if (dog == null) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(toLine(dog));
+                    emitted++;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+            }
+        }
+
+        private byte[] toLine(DogDTO dog) throws IOException {
+            byte[] json = jsonMapper.writeValueAsBytes(dog);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = NEWLINE;
+            return line;
+        }
+
+        private void finish() {
+            done = true;
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (SQLException e) {
+                    LOG.warn("Failed to close export cursor", e);
+                }
+                cursor = null;
+            }
+        }
+    }
+}
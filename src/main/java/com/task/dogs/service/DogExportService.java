@@ -0,0 +1,41 @@
+package com.task.dogs.service;
+
+import com.task.dogs.repository.DogQueryRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Full-roster export as newline-delimited JSON, streamed from a database cursor.
+ */
+@Singleton
+public class DogExportService {
+
+    private final DogQueryRepository dogQueryRepository;
+    private final JsonMapper jsonMapper;
+    private final ExecutorService blockingExecutor;
+    private final int fetchSize;
+
+    public DogExportService(DogQueryRepository dogQueryRepository,
+                            JsonMapper jsonMapper,
+                            @Named(TaskExecutors.BLOCKING) ExecutorService blockingExecutor,
+                            @Value("${dogs.export.fetch-size:500}") int fetchSize) {
+        this.dogQueryRepository = dogQueryRepository;
+        this.jsonMapper = jsonMapper;
+        this.blockingExecutor = blockingExecutor;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * One JSON line per non-deleted dog, in id order. Nothing is read until subscribed; each
+     * subscriber gets its own cursor, and rows are only read as the subscriber requests them.
+     */
+    public Publisher<byte[]> exportNdjson() {
+        return new DogExportPublisher(() -> dogQueryRepository.openExportCursor(fetchSize), jsonMapper, blockingExecutor);
+    }
+}
@@ -1,101 +1,341 @@
 package com.task.dogs.service;
 
+import com.task.dogs.domain.dto.CursorPage;
 import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogPatch;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.dto.SlicePage;
 import com.task.dogs.domain.entity.Dog;
 import com.task.dogs.domain.entity.DogStatus;
 import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.domain.event.DogChangeEvent;
 import com.task.dogs.domain.mapper.DogMapper;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.exception.ConflictException;
 import com.task.dogs.exception.ResourceNotFoundException;
+import com.task.dogs.repository.DogQueryRepository;
 import com.task.dogs.repository.DogRepository;
-import com.task.dogs.repository.DogStatusRepository;
-import com.task.dogs.repository.LeavingReasonRepository;
+import com.task.dogs.repository.DogSortField;
+import com.task.dogs.repository.DogSyncClock;
+import com.task.dogs.repository.DogWriteRepository;
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.http.MediaType;
 import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Singleton
 public class DogService {
 
     private final DogRepository dogRepository;
-    private final DogStatusRepository statusRepository;
-    private final LeavingReasonRepository reasonRepository;
+    private final DogQueryRepository dogQueryRepository;
+    private final DogWriteRepository dogWriteRepository;
+    private final DogSyncClock syncClock;
+    private final LookupCache lookupCache;
+    private final DogCountCache countCache;
+    private final DogTextIndex textIndex;
+    private final DogByIdCache byIdCache;
     private final DogMapper dogMapper;
+    private final ApplicationEventPublisher<DogChangeEvent> eventPublisher;
 
     public DogService(DogRepository dogRepository,
-                      DogStatusRepository statusRepository,
-                      LeavingReasonRepository reasonRepository,
-                      DogMapper dogMapper) {
+                      DogQueryRepository dogQueryRepository,
+                      DogWriteRepository dogWriteRepository,
+                      DogSyncClock syncClock,
+                      LookupCache lookupCache,
+                      DogCountCache countCache,
+                      DogTextIndex textIndex,
+                      DogByIdCache byIdCache,
+                      DogMapper dogMapper,
+                      ApplicationEventPublisher<DogChangeEvent> eventPublisher) {
         this.dogRepository = dogRepository;
-        this.statusRepository = statusRepository;
-        this.reasonRepository = reasonRepository;
+        this.dogQueryRepository = dogQueryRepository;
+        this.dogWriteRepository = dogWriteRepository;
+        this.syncClock = syncClock;
+        this.lookupCache = lookupCache;
+        this.countCache = countCache;
+        this.textIndex = textIndex;
+        this.byIdCache = byIdCache;
         this.dogMapper = dogMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public DogDTO createDog(DogDTO dogDTO) {
         Dog dog = dogMapper.toEntity(dogDTO);
         
-        DogStatus status = statusRepository.findById(dogDTO.getStatusId())
+        DogStatus status = lookupCache.findStatus(dogDTO.getStatusId())
             .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + dogDTO.getStatusId()));
         
         LeavingReason leavingReason = null;
         if (dogDTO.getLeavingReasonId() != null) {
-            leavingReason = reasonRepository.findById(dogDTO.getLeavingReasonId())
+            leavingReason = lookupCache.findReason(dogDTO.getLeavingReasonId())
                 .orElseThrow(() -> new ResourceNotFoundException("Leaving reason not found with id: " + dogDTO.getLeavingReasonId()));
         }
         
         dog.setStatus(status);
         dog.setLeavingReason(leavingReason);
         dog.setDeleted(false);
+        dog.setChangeSeq(syncClock.reserve());
         
         Dog savedDog = dogRepository.save(dog);
-        return dogMapper.toDTO(savedDog);
+        DogDTO created = dogMapper.toDTO(savedDog);
+        eventPublisher.publishEvent(DogChangeEvent.created(created));
+        return created;
     }
 
     public Page<DogDTO> getAllDogs(Pageable pageable) {
-        Page<Dog> dogs = dogRepository.findAllNonDeleted(pageable);
-        return dogs.map(dogMapper::toDTO);
+        return searchDogs(DogSearchCriteria.none(), pageable);
     }
 
     public Page<DogDTO> searchDogs(String name, String breed, String supplier, Pageable pageable) {
-        Page<Dog> dogs = dogRepository.findByFilters(name, breed, supplier, pageable);
-        return dogs.map(dogMapper::toDTO);
+        return searchDogs(new DogSearchCriteria(name, breed, supplier), pageable);
+    }
+
+    /**
+     * Paged listing with a total. The total comes from {@link DogCountCache}, and is skipped
+     * entirely when the page itself shows where the result set ends.
+     */
+    public Page<DogDTO> searchDogs(DogSearchCriteria criteria, Pageable pageable) {
+        return searchDogs(criteria, pageable, DogField.ALL);
+    }
+
+    /**
+     * As above, with only {@code fields} selected and returned.
+     */
+    public Page<DogDTO> searchDogs(DogSearchCriteria criteria, Pageable pageable, Set<DogField> fields) {
+        DogSearchCriteria resolved = resolveTextFilters(criteria);
+        List<DogDTO> dogs = dogQueryRepository.findPage(resolved, pageable, pageable.getSize(), fields);
+        long total;
+        if (dogs.size() < pageable.getSize() && (!dogs.isEmpty() || pageable.getOffset() == 0)) {
+            total = pageable.getOffset() + dogs.size();
+        } else if (resolved.getIds() != null && !resolved.hasFilters()) {
+            total = resolved.getIds().length;
+        } else {
+            total = countCache.count(criteria, () -> dogQueryRepository.count(resolved));
+        }
+        return Page.of(dogs, pageable, total);
+    }
+
+    /**
+     * Paged listing without a total: one extra row is fetched to tell whether a next page exists.
+     */
+    public SlicePage<DogDTO> sliceDogs(DogSearchCriteria criteria, Pageable pageable) {
+        return sliceDogs(criteria, pageable, DogField.ALL);
+    }
+
+    public SlicePage<DogDTO> sliceDogs(DogSearchCriteria criteria, Pageable pageable, Set<DogField> fields) {
+        int size = pageable.getSize();
+        List<DogDTO> dogs = dogQueryRepository.findPage(resolveTextFilters(criteria), pageable, size + 1, fields);
+        boolean hasNext = dogs.size() > size;
+        if (hasNext) {
+            dogs = dogs.subList(0, size);
+        }
+        return new SlicePage<>(dogs, pageable.getNumber(), size, hasNext);
+    }
+
+    /**
+     * Keyset-paginated listing. The sort comes from the pageable (defaulting to id, or to the sort
+     * the cursor was issued for); {@code after} is the {@code next} token of the previous page.
+     */
+    public CursorPage<DogDTO> getDogsByCursor(DogSearchCriteria criteria, Pageable pageable, String after) {
+        return getDogsByCursor(criteria, pageable, after, DogField.ALL);
+    }
+
+    /**
+     * As above, with only {@code fields} returned. The sort column is read as well, to build
+     * {@code next}.
+     */
+    public CursorPage<DogDTO> getDogsByCursor(DogSearchCriteria criteria, Pageable pageable, String after,
+                                              Set<DogField> fields) {
+        DogCursor cursor = after == null || after.isEmpty() ? null : DogCursor.decode(after);
+
+        DogSortField sortField = cursor != null ? cursor.getSort() : DogSortField.ID;
+        boolean descending = cursor != null && cursor.isDescending();
+        List<Sort.Order> orders = pageable.getSort().getOrderBy();
+        if (!orders.isEmpty()) {
+            Sort.Order order = orders.get(0);
+            sortField = DogSortField.fromProperty(order.getProperty())
+                .orElseThrow(() -> new BadRequestException("Unsupported sort for cursor paging: " + order.getProperty()));
+            descending = order.getDirection() == Sort.Order.Direction.DESC;
+        }
+        if (cursor != null && (cursor.getSort() != sortField || cursor.isDescending() != descending)) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+
+        int size = pageable.getSize();
+        DogField sortKey = DogField.fromProperty(sortField.getProperty()).orElseThrow();
+        List<DogDTO> dogs = dogQueryRepository.findKeysetPage(resolveTextFilters(criteria), sortField, descending,
+            cursor != null ? cursor.getKey() : null,
+            cursor != null ? cursor.getId() : null,
+            size + 1,
+            DogField.including(fields, sortKey));
+
+        String next = null;
+        if (dogs.size() > size) {
+            dogs = dogs.subList(0, size);
+            next = DogCursor.after(dogs.get(size - 1), sortField, descending).encode();
+        }
+        if (!fields.contains(sortKey)) {
+            dogs = dogs.stream().map(dog -> DogField.project(dog, fields)).toList();
+        }
+        return new CursorPage<>(dogs, size, next);
+    }
+
+    /**
+     * Answers substring filters of three or more characters from {@link DogTextIndex}, replacing
+     * them with the matching id set; anything the index can't answer stays a SQL predicate.
+     */
+    private DogSearchCriteria resolveTextFilters(DogSearchCriteria criteria) {
+        if (criteria.isPrefixMatch()) {
+            return criteria;
+        }
+        Optional<long[]> byName = textIndex.find(DogTextIndex.Field.NAME, criteria.getName());
+        Optional<long[]> byBreed = textIndex.find(DogTextIndex.Field.BREED, criteria.getBreed());
+        Optional<long[]> bySupplier = textIndex.find(DogTextIndex.Field.SUPPLIER, criteria.getSupplier());
+        if (byName.isEmpty() && byBreed.isEmpty() && bySupplier.isEmpty()) {
+            return criteria;
+        }
+
+        long[] ids = null;
+        for (Optional<long[]> matches : List.of(byName, byBreed, bySupplier)) {
+            if (matches.isPresent()) {
+                ids = ids == null ? matches.get() : DogTextIndex.intersect(ids, matches.get());
+            }
+        }
+        return criteria.withIdsInsteadOfText(ids, byName.isEmpty(), byBreed.isEmpty(), bySupplier.isEmpty());
+    }
+
+    /**
+     * Version of a listing encoded as {@code contentType}, from the sync clock rather than the
+     * table: it only moves once a write has committed along with every write before it, so a
+     * write that commits late still changes the tag. Taken before reading the page: a write in
+     * between then yields newer content under an older tag, which only costs the client one
+     * extra full response later.
+     */
+    public ResourceVersion getListingVersion(String requestKey, MediaType contentType) {
+        return ResourceVersion.ofListing(requestKey, contentType, syncClock.mark());
     }
 
     public DogDTO getDogById(Long id) {
-        Dog dog = dogRepository.findByIdNonDeleted(id)
+        DogDTO dog = byIdCache.get(id, key -> dogRepository.findDtoByIdNonDeleted(key).orElse(null));
+        if (dog == null) {
+            throw new ResourceNotFoundException("Dog not found with id: " + id);
+        }
+        return dog;
+    }
+
+    /**
+     * The dog with at least {@code fields}, plus {@code version} and {@code updatedAt} for its
+     * {@link ResourceVersion}; callers {@link DogField#project project} it before returning it. A
+     * cached dog is used as is, otherwise only those columns are read and nothing is cached.
+     */
+    public DogDTO getDogById(Long id, Set<DogField> fields) {
+        if (DogField.isAll(fields)) {
+            return getDogById(id);
+        }
+        DogDTO cached = byIdCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return dogQueryRepository.findById(id, DogField.including(fields, DogField.VERSION, DogField.UPDATED_AT))
             .orElseThrow(() -> new ResourceNotFoundException("Dog not found with id: " + id));
-        return dogMapper.toDTO(dog);
     }
 
-    @Transactional
+    /**
+     * Full update, conditional on {@code dogDTO.version} when the client sent one.
+     */
     public DogDTO updateDog(Long id, DogDTO dogDTO) {
-        Dog existingDog = dogRepository.findByIdNonDeleted(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Dog not found with id: " + id));
-        
-        dogMapper.updateEntityFromDTO(dogDTO, existingDog);
-        
-        DogStatus status = statusRepository.findById(dogDTO.getStatusId())
+        return updateDog(id, dogDTO, dogDTO.getVersion());
+    }
+
+    /**
+     * Full update applied as one conditional {@code UPDATE}, so the row is locked for a single
+     * statement. With {@code expectedVersion} the update only applies if nobody else has written
+     * the dog since that version was read; otherwise it is last-writer-wins.
+     *
+     * @throws ConflictException if the dog exists but is no longer at {@code expectedVersion}
+     */
+    @Transactional
+    public DogDTO updateDog(Long id, DogDTO dogDTO, Long expectedVersion) {
+        DogStatus status = lookupCache.findStatus(dogDTO.getStatusId())
             .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + dogDTO.getStatusId()));
-        existingDog.setStatus(status);
-        
+        dogDTO.setStatusName(status.getStatusName());
+
         if (dogDTO.getLeavingReasonId() != null) {
-            LeavingReason leavingReason = reasonRepository.findById(dogDTO.getLeavingReasonId())
+            LeavingReason leavingReason = lookupCache.findReason(dogDTO.getLeavingReasonId())
                 .orElseThrow(() -> new ResourceNotFoundException("Leaving reason not found with id: " + dogDTO.getLeavingReasonId()));
-            existingDog.setLeavingReason(leavingReason);
+            dogDTO.setLeavingReasonName(leavingReason.getReasonName());
         } else {
-            existingDog.setLeavingReason(null);
+            dogDTO.setLeavingReasonName(null);
         }
-        
-        Dog updatedDog = dogRepository.update(existingDog);
-        return dogMapper.toDTO(updatedDog);
+
+        dogDTO.setId(id);
+        if (dogWriteRepository.update(dogDTO, expectedVersion).isEmpty()) {
+            throw notUpdated(id, expectedVersion);
+        }
+        eventPublisher.publishEvent(DogChangeEvent.updated(dogDTO));
+        return dogDTO;
+    }
+
+    /**
+     * Partial update: one {@code UPDATE} of only the patched columns, which also returns the
+     * written row, so nothing is read beforehand. Version handling is as for
+     * {@link #updateDog(Long, DogDTO, Long)}.
+     */
+    @Transactional
+    public DogDTO patchDog(Long id, DogPatch patch, Long expectedVersion) {
+        if (patch.isEmpty()) {
+            DogDTO current = getDogById(id);
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new ConflictException("Dog " + id + " has been modified since version " + expectedVersion);
+            }
+            return current;
+        }
+        if (patch.contains(DogPatch.Field.STATUS_ID)) {
+            Long statusId = (Long) patch.get(DogPatch.Field.STATUS_ID);
+            lookupCache.findStatus(statusId)
+                .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + statusId));
+        }
+        if (patch.get(DogPatch.Field.LEAVING_REASON_ID) != null) {
+            Long reasonId = (Long) patch.get(DogPatch.Field.LEAVING_REASON_ID);
+            lookupCache.findReason(reasonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Leaving reason not found with id: " + reasonId));
+        }
+
+        DogDTO patched = dogWriteRepository.patch(id, patch, expectedVersion)
+            .orElseThrow(() -> notUpdated(id, expectedVersion));
+        lookupCache.findStatus(patched.getStatusId())
+            .ifPresent(status -> patched.setStatusName(status.getStatusName()));
+        lookupCache.findReason(patched.getLeavingReasonId())
+            .ifPresent(reason -> patched.setLeavingReasonName(reason.getReasonName()));
+        eventPublisher.publishEvent(DogChangeEvent.updated(patched));
+        return patched;
+    }
+
+    /**
+     * Why a conditional write matched nothing: a stale version if the dog still exists,
+     * otherwise a missing dog. Checked after the write, so it costs nothing on success.
+     */
+    private RuntimeException notUpdated(Long id, Long expectedVersion) {
+        if (expectedVersion != null && dogRepository.findDtoByIdNonDeleted(id).isPresent()) {
+            return new ConflictException("Dog " + id + " has been modified since version " + expectedVersion);
+        }
+        return new ResourceNotFoundException("Dog not found with id: " + id);
     }
 
     @Transactional
     public void deleteDog(Long id) {
-        dogRepository.findByIdNonDeleted(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Dog not found with id: " + id));
-        dogRepository.softDelete(id);
+        if (dogRepository.softDelete(id, syncClock.reserve()) == 0) {
+            throw new ResourceNotFoundException("Dog not found with id: " + id);
+        }
+        eventPublisher.publishEvent(DogChangeEvent.deleted(id));
     }
 }
\ No newline at end of file
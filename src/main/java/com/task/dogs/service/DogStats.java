@@ -0,0 +1,241 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.RosterStats;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.domain.event.DogChangeEvent;
+import com.task.dogs.repository.DogQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Roster counts by status, breed, supplier, gender and leaving reason, kept in memory so
+ * {@code GET /dogs/stats} never runs a {@code GROUP BY}.
+ * <p>
+ * Seeded from one scan of the table at startup and maintained from committed
+ * {@link DogChangeEvent}s. Updates and deletes don't carry the dog's previous values, so the
+ * grouped attributes of every dog are kept as well, to know which counters to move. After-commit
+ * listeners can run out of commit order, so events for the same dog are resolved by its version:
+ * whichever of a create or an update arrives first is counted and an older one arriving later is
+ * dropped. Deletes are final and leave a tombstone, so a late create or update can't count a
+ * deleted dog again. Reads are served from an immutable
+ * snapshot that is only rebuilt after a change.
+ */
+@Singleton
+public class DogStats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogStats.class);
+
+    private final DogQueryRepository dogQueryRepository;
+    private final LookupCache lookupCache;
+    private final Timer rebuildTimer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Counters counters = new Counters();
+    private List<DogChangeEvent> pendingDuringRebuild;
+    private volatile RosterStats snapshot;
+
+    public DogStats(DogQueryRepository dogQueryRepository, LookupCache lookupCache, MeterRegistry meterRegistry) {
+        this.dogQueryRepository = dogQueryRepository;
+        this.lookupCache = lookupCache;
+        this.rebuildTimer = Timer.builder("dogs.stats.rebuild")
+            .description("Time to reseed roster statistics from the dog table")
+            .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Reseeds the counters from the table. Changes committed while the scan runs are replayed
+     * onto the new counters before they are swapped in.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        Counters rebuilt = new Counters();
+        dogQueryRepository.forEachStatsFacets((id, statusId, leavingReasonId, gender, breed, supplier, version) ->
+            rebuilt.put(id, new Facets(statusId, leavingReasonId, gender, breed, supplier, version)));
+
+        lock.lock();
+        try {
+            rebuilt.deleted.addAll(counters.deleted);
+            pendingDuringRebuild.forEach(rebuilt::apply);
+            pendingDuringRebuild = null;
+            counters = rebuilt;
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        LOG.info("Seeded roster statistics for {} dogs in {} ms", rebuilt.dogs.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    @TransactionalEventListener
+    public void onDogChanged(DogChangeEvent event) {
+        lock.lock();
+        try {
+            if (counters.apply(event)) {
+                snapshot = null;
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current counts; a volatile read unless a change has been applied since the last call.
+     */
+    public RosterStats getStats() {
+        RosterStats current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = counters.toStats(
+                    statusId -> lookupCache.findStatus(statusId).map(DogStatus::getStatusName).orElse(String.valueOf(statusId)),
+                    reasonId -> lookupCache.findReason(reasonId).map(LeavingReason::getReasonName).orElse(String.valueOf(reasonId)));
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The attributes a dog is counted under. {@code version} orders writes to the same dog; a
+     * {@code null} one is never treated as older.
+     */
+    private record Facets(long statusId, Long leavingReasonId, String gender, String breed, String supplier, Long version) {
+
+        static Facets of(DogDTO dog) {
+            return new Facets(dog.getStatusId(), dog.getLeavingReasonId(), dog.getGender(), dog.getBreed(),
+                dog.getSupplier(), dog.getVersion());
+        }
+
+        boolean isOlderThan(Facets other) {
+            return version != null && other.version != null && version <= other.version;
+        }
+    }
+
+    /**
+     * Counter state. Only accessed under {@link #lock}.
+     */
+    private static final class Counters {
+
+        private final Map<Long, Facets> dogs = new HashMap<>();
+        // Ids deleted since startup, carried over by rebuilds
+        private final Set<Long> deleted = new HashSet<>();
+        private final Map<Long, long[]> byStatus = new HashMap<>();
+        private final Map<Long, long[]> byLeavingReason = new HashMap<>();
+        private final Map<String, long[]> byGender = new HashMap<>();
+        private final Map<String, long[]> byBreed = new HashMap<>();
+        private final Map<String, long[]> bySupplier = new HashMap<>();
+
+        /**
+         * Applies a committed change; returns whether any count moved.
+         */
+        boolean apply(DogChangeEvent event) {
+            switch (event.getType()) {
+                case CREATED:
+                case UPDATED:
+                    // An update of an unknown id is counted now; its create, when it arrives, is older
+                    Facets current = dogs.get(event.getId());
+                    Facets written = Facets.of(event.getDog());
+                    if (deleted.contains(event.getId()) || (current != null && written.isOlderThan(current))) {
+                        return false;
+                    }
+                    put(event.getId(), written);
+                    return true;
+                case DELETED:
+                    deleted.add(event.getId());
+                    Facets removed = dogs.remove(event.getId());
+                    if (removed != null) {
+                        count(removed, -1);
+                    }
+                    return removed != null;
+                default:
+                    return false;
+            }
+        }
+
+        void put(long id, Facets facets) {
+            Facets previous = dogs.put(id, facets);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            count(facets, 1);
+        }
+
+        private void count(Facets facets, int delta) {
+            byStatus.computeIfAbsent(facets.statusId(), k -> new long[1])[0] += delta;
+            if (facets.leavingReasonId() != null) {
+                byLeavingReason.computeIfAbsent(facets.leavingReasonId(), k -> new long[1])[0] += delta;
+            }
+            byGender.computeIfAbsent(Objects.toString(facets.gender(), ""), k -> new long[1])[0] += delta;
+            byBreed.computeIfAbsent(Objects.toString(facets.breed(), ""), k -> new long[1])[0] += delta;
+            bySupplier.computeIfAbsent(Objects.toString(facets.supplier(), ""), k -> new long[1])[0] += delta;
+        }
+
+        RosterStats toStats(Function<Long, String> statusName, Function<Long, String> reasonName) {
+            return new RosterStats(
+                dogs.size(),
+                ranked(byStatus, statusName),
+                ranked(byBreed, Function.identity()),
+                ranked(bySupplier, Function.identity()),
+                ranked(byGender, Function.identity()),
+                ranked(byLeavingReason, reasonName)
+            );
+        }
+
+        private static <K> Map<String, Long> ranked(Map<K, long[]> counts, Function<K, String> label) {
+            List<Map.Entry<K, long[]>> entries = new ArrayList<>();
+            for (Map.Entry<K, long[]> entry : counts.entrySet()) {
+                if (entry.getValue()[0] > 0) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+            Map<String, Long> ranked = new LinkedHashMap<>();
+            for (Map.Entry<K, long[]> entry : entries) {
+                ranked.merge(label.apply(entry.getKey()), entry.getValue()[0], Long::sum);
+            }
+            return Collections.unmodifiableMap(ranked);
+        }
+    }
+}
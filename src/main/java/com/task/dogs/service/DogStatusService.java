@@ -1,23 +1,25 @@
 package com.task.dogs.service;
 
 import com.task.dogs.domain.entity.DogStatus;
-import com.task.dogs.repository.DogStatusRepository;
+import io.micronaut.http.MediaType;
 import jakarta.inject.Singleton;
 
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 @Singleton
 public class DogStatusService {
 
-    private final DogStatusRepository statusRepository;
+    private final LookupCache lookupCache;
 
-    public DogStatusService(DogStatusRepository statusRepository) {
-        this.statusRepository = statusRepository;
+    public DogStatusService(LookupCache lookupCache) {
+        this.lookupCache = lookupCache;
     }
 
     public List<DogStatus> getAllStatuses() {
-        return StreamSupport.stream(statusRepository.findAll().spliterator(), false)
-            .toList();
+        return lookupCache.getStatuses();
+    }
+
+    public LookupCache.Payload getAllStatusesPayload(MediaType mediaType) {
+        return lookupCache.getStatusesPayload(mediaType);
     }
 }
\ No newline at end of file
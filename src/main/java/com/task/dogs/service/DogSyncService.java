@@ -0,0 +1,104 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogSyncPage;
+import com.task.dogs.exception.GoneException;
+import com.task.dogs.repository.DogQueryRepository;
+import com.task.dogs.repository.DogSyncClock;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Delta sync for clients that poll instead of holding the change feed open: the dogs written past
+ * the client's position, read off the {@code (change_seq, id)} index, with deletes as tombstones.
+ * <p>
+ * Positions come from {@link DogSyncClock} and a page never goes past {@link DogSyncClock#stable()},
+ * so a write that commits after later ones (held up by a lock wait, say) is returned by a later
+ * call instead of being skipped. Tombstones only exist until the archiver moves them out of
+ * {@code dog}, so tokens handed out longer than {@code dogs.archive.retention} ago are refused and
+ * the client must reload.
+ */
+@Singleton
+public class DogSyncService {
+
+    private final DogQueryRepository dogQueryRepository;
+    private final DogSyncClock syncClock;
+    private final boolean archiveEnabled;
+    private final Duration retention;
+
+    public DogSyncService(DogQueryRepository dogQueryRepository,
+                          DogSyncClock syncClock,
+                          Optional<DogArchiver> archiver,
+                          @Value("${dogs.archive.retention:30d}") Duration retention) {
+        this.dogQueryRepository = dogQueryRepository;
+        this.syncClock = syncClock;
+        // Follows the archiver bean itself so the two can't disagree on whether archival is on
+        this.archiveEnabled = archiver.isPresent();
+        this.retention = retention;
+    }
+
+    /**
+     * Changes past {@code since}, with only {@code fields} of changed dogs returned.
+     */
+    public DogSyncPage changesSince(DogSyncToken since, int size, Set<DogField> fields) {
+        LocalDateTime now = LocalDateTime.now();
+        if (archiveEnabled && since.getIssuedAt().isBefore(now.minus(retention))) {
+            throw new GoneException("Deletions before " + now.minus(retention) + " are no longer kept; reload the full list");
+        }
+        return changesSince(since, syncClock.stable(), size, fields);
+    }
+
+    DogSyncPage changesSince(DogSyncToken since, long until, int size) {
+        return changesSince(since, until, size, DogField.ALL);
+    }
+
+    DogSyncPage changesSince(DogSyncToken since, long until, int size, Set<DogField> fields) {
+        DogSyncToken from = since.getPosition() != null ? since : resolve(since, until);
+        List<DogQueryRepository.ChangedRow> rows = dogQueryRepository.findChangedSince(
+            from.getPosition(), from.getId(), until, size + 1, fields);
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        List<DogDTO> changed = new ArrayList<>(rows.size());
+        List<Long> deleted = new ArrayList<>();
+        for (DogQueryRepository.ChangedRow row : rows) {
+            if (row.dog() != null) {
+                changed.add(row.dog());
+            } else {
+                deleted.add(row.id());
+            }
+        }
+
+        // Everything up to until has been returned unless there is more, so the position can move there
+        LocalDateTime now = LocalDateTime.now();
+        DogSyncToken next;
+        if (hasMore) {
+            DogQueryRepository.ChangedRow last = rows.get(rows.size() - 1);
+            next = DogSyncToken.at(last.position(), last.id(), now);
+        } else if (until > from.getPosition()) {
+            next = DogSyncToken.after(until, now);
+        } else {
+            next = DogSyncToken.at(from.getPosition(), from.getId(), now);
+        }
+        return new DogSyncPage(changed, deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Position just before the first dog written after an {@code updatedSince} timestamp. Writes
+     * still in flight may carry a later timestamp too, so it is never past them either.
+     */
+    private DogSyncToken resolve(DogSyncToken since, long until) {
+        long first = Math.min(dogQueryRepository.findFirstPositionChangedAfter(since.getIssuedAt()).orElse(until + 1), until + 1);
+        return DogSyncToken.after(first - 1, since.getIssuedAt());
+    }
+}
@@ -0,0 +1,92 @@
+package com.task.dogs.service;
+
+import com.task.dogs.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync position: the {@code (change_seq, id)} of the last change a client has seen,
+ * and when it was handed out. Encoded as URL-safe base64 of {@code position|id|issuedAt}.
+ * <p>
+ * A position parsed from an {@code updatedSince} timestamp has no {@code change_seq} yet; the
+ * first sync call resolves it.
+ */
+public final class DogSyncToken {
+
+    private final Long position;
+    private final long id;
+    private final LocalDateTime issuedAt;
+
+    private DogSyncToken(Long position, long id, LocalDateTime issuedAt) {
+        this.position = position;
+        this.id = id;
+        this.issuedAt = issuedAt;
+    }
+
+    public static DogSyncToken at(long position, long id, LocalDateTime issuedAt) {
+        return new DogSyncToken(position, id, issuedAt);
+    }
+
+    /**
+     * Position just after every change at or before {@code position}.
+     */
+    public static DogSyncToken after(long position, LocalDateTime issuedAt) {
+        return new DogSyncToken(position, Long.MAX_VALUE, issuedAt);
+    }
+
+    /**
+     * Position of the changes made after {@code updatedSince}, to be resolved against the table.
+     */
+    public static DogSyncToken since(LocalDateTime updatedSince) {
+        return new DogSyncToken(null, Long.MAX_VALUE, updatedSince);
+    }
+
+    public static DogSyncToken parseTimestamp(String updatedSince) {
+        try {
+            return since(LocalDateTime.parse(updatedSince));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("updatedSince must be a timestamp (yyyy-MM-ddTHH:mm:ss)");
+        }
+    }
+
+    public static DogSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new DogSyncToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]), LocalDateTime.parse(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid sync token: " + token);
+        }
+    }
+
+    public String encode() {
+        if (position == null) {
+            throw new IllegalStateException("An updatedSince position must be resolved before it is handed out");
+        }
+        String raw = position + "|" + id + "|" + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The {@code change_seq} this position is at, or {@code null} for an unresolved
+     * {@code updatedSince}.
+     */
+    public Long getPosition() {
+        return position;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * When the token was handed out, or the {@code updatedSince} timestamp; tombstones after the
+     * position are kept for {@code dogs.archive.retention} from then.
+     */
+    public LocalDateTime getIssuedAt() {
+        return issuedAt;
+    }
+}
@@ -0,0 +1,366 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.event.DogChangeEvent;
+import com.task.dogs.repository.DogQueryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory trigram index over the lowercased {@code name}, {@code breed} and {@code supplier}
+ * of non-deleted dogs, used to turn substring filters into candidate id sets without scanning
+ * the table.
+ * <p>
+ * Built from the table at startup and kept current from committed {@link DogChangeEvent}s.
+ * After-commit listeners can run out of commit order, so a write older than the version already
+ * indexed is ignored, and deleted ids are kept as tombstones (deletes are final) so a late create
+ * or update can't bring a dog back.
+ * <p>
+ * Trigram postings give a superset of matches, so candidates are verified against the indexed
+ * text before being returned. Queries shorter than three characters, and queries whose rarest
+ * trigram is in more than {@code dogs.search.max-candidates} dogs, can't be answered and fall
+ * back to SQL: a long id list costs more to bind and look up than the {@code LIKE} it replaces,
+ * and giving up before intersecting keeps common trigrams cheap under the read lock. Text is lowercased with
+ * {@link Locale#ROOT}, like the {@code *_lower} columns, whatever the default locale.
+ */
+@Singleton
+public class DogTextIndex {
+
+    public enum Field {
+        NAME,
+        BREED,
+        SUPPLIER
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(DogTextIndex.class);
+    private static final int GRAM = 3;
+
+    private final DogQueryRepository dogQueryRepository;
+    private final int maxCandidates;
+    private final Timer rebuildTimer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    private boolean ready;
+    private List<DogChangeEvent> pendingDuringRebuild;
+
+    public DogTextIndex(DogQueryRepository dogQueryRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${dogs.search.max-candidates:1000}") int maxCandidates) {
+        this.dogQueryRepository = dogQueryRepository;
+        this.maxCandidates = maxCandidates;
+        this.rebuildTimer = Timer.builder("dogs.search.index.rebuild")
+            .description("Time to rebuild the trigram index from the dog table")
+            .register(meterRegistry);
+        Gauge.builder("dogs.search.index.dogs", this, index -> index.read(s -> s.texts.size()))
+            .description("Dogs held in the trigram index")
+            .register(meterRegistry);
+        Gauge.builder("dogs.search.index.postings", this, index -> index.read(s -> s.postingCount))
+            .description("Trigram postings across all fields")
+            .register(meterRegistry);
+        Gauge.builder("dogs.search.index.memory", this, index -> index.read(State::estimatedBytes))
+            .description("Estimated heap held by the trigram index")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Reloads the index from the table. Changes committed while the scan runs are replayed onto
+     * the new index before it is swapped in.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        dogQueryRepository.forEachSearchText((id, name, breed, supplier, version) ->
+            rebuilt.put(id, new String[] {lower(name), lower(breed), lower(supplier)}, version));
+
+        lock.writeLock().lock();
+        try {
+            rebuilt.deleted.addAll(state.deleted);
+            pendingDuringRebuild.forEach(change -> apply(rebuilt, change));
+            pendingDuringRebuild = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        LOG.info("Indexed {} dogs for substring search in {} ms", rebuilt.texts.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    @TransactionalEventListener
+    public void onDogChanged(DogChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(state, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of non-deleted dogs whose field contains {@code query} (case-insensitive), sorted
+     * ascending; empty if the index can't answer (not built yet, query under three characters, or
+     * every trigram of the query in more than {@code dogs.search.max-candidates} dogs).
+     */
+    public Optional<long[]> find(Field field, String query) {
+        if (query == null || query.length() < GRAM) {
+            return Optional.empty();
+        }
+        String needle = lower(query);
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(state.find(field.ordinal(), needle, maxCandidates));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersection of two ascending id arrays.
+     */
+    public static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private <T> T read(Function<State, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(State target, DogChangeEvent event) {
+        if (event.getType() == DogChangeEvent.Type.DELETED) {
+            target.remove(event.getId());
+            target.deleted.add(event.getId());
+            return;
+        }
+        DogDTO dog = event.getDog();
+        if (target.deleted.contains(dog.getId()) || target.isOlder(dog.getId(), dog.getVersion())) {
+            return;
+        }
+        target.put(dog.getId(), new String[] {lower(dog.getName()), lower(dog.getBreed()), lower(dog.getSupplier())},
+            dog.getVersion());
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Packs three UTF-16 chars into one map key.
+     */
+    private static long gram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    /**
+     * Index contents. Only accessed under {@link #lock}.
+     */
+    private static final class State {
+
+        @SuppressWarnings("unchecked")
+        private final Map<Long, Postings>[] grams = new Map[] {new HashMap<>(), new HashMap<>(), new HashMap<>()};
+        private final Map<Long, String[]> texts = new HashMap<>();
+        private final Map<Long, Long> versions = new HashMap<>();
+        // Ids deleted since startup, carried over by rebuilds
+        private final Set<Long> deleted = new HashSet<>();
+        private long postingCount;
+        private long textChars;
+
+        /**
+         * Whether {@code version} is no newer than the indexed one; a {@code null} one never is.
+         */
+        boolean isOlder(long id, Long version) {
+            Long indexed = versions.get(id);
+            return version != null && indexed != null && version <= indexed;
+        }
+
+        void put(long id, String[] fields, Long version) {
+            remove(id);
+            texts.put(id, fields);
+            if (version != null) {
+                versions.put(id, version);
+            }
+            for (int f = 0; f < fields.length; f++) {
+                String text = fields[f];
+                textChars += text.length();
+                for (int i = 0; i + GRAM <= text.length(); i++) {
+                    if (grams[f].computeIfAbsent(gram(text, i), k -> new Postings()).add(id)) {
+                        postingCount++;
+                    }
+                }
+            }
+        }
+
+        void remove(long id) {
+            versions.remove(id);
+            String[] fields = texts.remove(id);
+            if (fields == null) {
+                return;
+            }
+            for (int f = 0; f < fields.length; f++) {
+                String text = fields[f];
+                textChars -= text.length();
+                for (int i = 0; i + GRAM <= text.length(); i++) {
+                    long key = gram(text, i);
+                    Postings postings = grams[f].get(key);
+                    if (postings != null && postings.remove(id)) {
+                        postingCount--;
+                        if (postings.size == 0) {
+                            grams[f].remove(key);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Matching ids, or {@code null} if even the rarest trigram of {@code needle} is in more
+         * than {@code limit} dogs. Only that rarest list is walked; the others are probed.
+         */
+        long[] find(int field, String needle, int limit) {
+            Postings smallest = null;
+            List<Postings> lists = new ArrayList<>();
+            for (int i = 0; i + GRAM <= needle.length(); i++) {
+                Postings postings = grams[field].get(gram(needle, i));
+                if (postings == null) {
+                    return new long[0];
+                }
+                lists.add(postings);
+                if (smallest == null || postings.size < smallest.size) {
+                    smallest = postings;
+                }
+            }
+            if (smallest.size > limit) {
+                return null;
+            }
+
+            long[] matches = new long[smallest.size];
+            int n = 0;
+            candidates:
+            for (int c = 0; c < smallest.size; c++) {
+                long id = smallest.ids[c];
+                for (Postings postings : lists) {
+                    if (postings != smallest && !postings.contains(id)) {
+                        continue candidates;
+                    }
+                }
+                // Trigram hits can come from different positions; confirm the substring really occurs
+                if (texts.get(id)[field].contains(needle)) {
+                    matches[n++] = id;
+                }
+            }
+            return Arrays.copyOf(matches, n);
+        }
+
+        long estimatedBytes() {
+            long gramKeys = 0;
+            for (Map<Long, Postings> map : grams) {
+                gramKeys += map.size();
+            }
+            // ~80 bytes per hash entry with boxed key and Postings header, 8 per posting,
+            // ~150 per text entry with its version plus 2 per char of indexed text, ~50 per tombstone
+            return gramKeys * 80 + postingCount * 8 + texts.size() * 150L + textChars * 2 + deleted.size() * 50L;
+        }
+    }
+
+    /**
+     * Ascending, duplicate-free list of dog ids. Ids are assigned in increasing order, so adds
+     * are normally appends.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        boolean add(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -1,23 +1,25 @@
 package com.task.dogs.service;
 
 import com.task.dogs.domain.entity.LeavingReason;
-import com.task.dogs.repository.LeavingReasonRepository;
+import io.micronaut.http.MediaType;
 import jakarta.inject.Singleton;
 
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 @Singleton
 public class LeavingReasonService {
 
-    private final LeavingReasonRepository reasonRepository;
+    private final LookupCache lookupCache;
 
-    public LeavingReasonService(LeavingReasonRepository reasonRepository) {
-        this.reasonRepository = reasonRepository;
+    public LeavingReasonService(LookupCache lookupCache) {
+        this.lookupCache = lookupCache;
     }
 
     public List<LeavingReason> getAllReasons() {
-        return StreamSupport.stream(reasonRepository.findAll().spliterator(), false)
-            .toList();
+        return lookupCache.getReasons();
+    }
+
+    public LookupCache.Payload getAllReasonsPayload(MediaType mediaType) {
+        return lookupCache.getReasonsPayload(mediaType);
     }
 }
\ No newline at end of file
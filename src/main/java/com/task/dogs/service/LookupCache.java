@@ -0,0 +1,203 @@
+package com.task.dogs.service;
+
+import com.task.dogs.codec.BinaryCodecs;
+import com.task.dogs.codec.BinaryMediaTypes;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import com.task.dogs.repository.DogStatusRepository;
+import com.task.dogs.repository.LeavingReasonRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.http.MediaType;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable in-memory copy of the {@code dog_status} and {@code leaving_reason} tables.
+ * <p>
+ * Both tables are seeded by the Flyway migration and are not written by the API, so they are
+ * loaded once at startup and only reloaded when a lookup misses (i.e. the table has changed
+ * underneath us). Miss-driven reloads are spaced at least {@code dogs.lookups.refresh-interval}
+ * apart, so a stream of requests with bogus ids costs at most one reload per interval rather
+ * than one each. The list endpoints are served from bodies pre-serialized as JSON, CBOR and
+ * Smile, each with its own content ETag.
+ */
+@Singleton
+public class LookupCache {
+
+    private final DogStatusRepository statusRepository;
+    private final LeavingReasonRepository reasonRepository;
+    private final JsonMapper jsonMapper;
+    private final BinaryCodecs binaryCodecs;
+    private final long refreshIntervalNanos;
+
+    private volatile Snapshot snapshot;
+    private volatile long refreshedAt;
+
+    public LookupCache(DogStatusRepository statusRepository,
+                       LeavingReasonRepository reasonRepository,
+                       JsonMapper jsonMapper,
+                       BinaryCodecs binaryCodecs,
+                       @Value("${dogs.lookups.refresh-interval:30s}") Duration refreshInterval) {
+        this.statusRepository = statusRepository;
+        this.reasonRepository = reasonRepository;
+        this.jsonMapper = jsonMapper;
+        this.binaryCodecs = binaryCodecs;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        refresh();
+    }
+
+    public Optional<DogStatus> findStatus(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        DogStatus status = snapshot().statuses().get(id);
+        if (status == null) {
+            status = refreshOnMiss().statuses().get(id);
+        }
+        return Optional.ofNullable(status);
+    }
+
+    public Optional<LeavingReason> findReason(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        LeavingReason reason = snapshot().reasons().get(id);
+        if (reason == null) {
+            reason = refreshOnMiss().reasons().get(id);
+        }
+        return Optional.ofNullable(reason);
+    }
+
+    public List<DogStatus> getStatuses() {
+        return snapshot().statusList();
+    }
+
+    public List<LeavingReason> getReasons() {
+        return snapshot().reasonList();
+    }
+
+    /**
+     * The statuses encoded as {@code mediaType} (JSON, CBOR or Smile); JSON for anything else.
+     */
+    public Payload getStatusesPayload(MediaType mediaType) {
+        return select(snapshot().statusesPayloads(), mediaType);
+    }
+
+    public Payload getReasonsPayload(MediaType mediaType) {
+        return select(snapshot().reasonsPayloads(), mediaType);
+    }
+
+    /**
+     * Reloads both tables and atomically swaps in the new snapshot.
+     */
+    public synchronized Snapshot refresh() {
+        List<DogStatus> statuses = StreamSupport.stream(statusRepository.findAll().spliterator(), false)
+            .toList();
+        List<LeavingReason> reasons = StreamSupport.stream(reasonRepository.findAll().spliterator(), false)
+            .toList();
+
+        Snapshot loaded = new Snapshot(
+            statuses.stream().collect(Collectors.toUnmodifiableMap(DogStatus::getId, Function.identity())),
+            reasons.stream().collect(Collectors.toUnmodifiableMap(LeavingReason::getId, Function.identity())),
+            statuses,
+            reasons,
+            toPayloads(statuses),
+            toPayloads(reasons)
+        );
+        this.snapshot = loaded;
+        this.refreshedAt = System.nanoTime();
+        return loaded;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Reloads after a lookup miss unless the last reload was under the refresh interval ago.
+     * Misses that arrive while another thread reloads take its result instead of reloading again.
+     */
+    private Snapshot refreshOnMiss() {
+        Snapshot seen = snapshot();
+        if (System.nanoTime() - refreshedAt < refreshIntervalNanos) {
+            return seen;
+        }
+        synchronized (this) {
+            if (snapshot != seen || System.nanoTime() - refreshedAt < refreshIntervalNanos) {
+                return snapshot;
+            }
+            return refresh();
+        }
+    }
+
+    private static Payload select(Map<String, Payload> payloads, MediaType mediaType) {
+        Payload payload = payloads.get(mediaType.getName());
+        return payload != null ? payload : payloads.get(MediaType.APPLICATION_JSON);
+    }
+
+    private Map<String, Payload> toPayloads(Object value) {
+        try {
+            return Map.of(
+                MediaType.APPLICATION_JSON, toPayload(jsonMapper.writeValueAsBytes(value), MediaType.APPLICATION_JSON_TYPE),
+                BinaryMediaTypes.APPLICATION_CBOR, toPayload(value, BinaryMediaTypes.APPLICATION_CBOR_TYPE),
+                BinaryMediaTypes.APPLICATION_SMILE, toPayload(value, BinaryMediaTypes.APPLICATION_SMILE_TYPE)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize lookup table", e);
+        }
+    }
+
+    private Payload toPayload(Object value, MediaType binaryType) throws IOException {
+        return toPayload(binaryCodecs.encode(binaryType, value), binaryType);
+    }
+
+    private static Payload toPayload(byte[] body, MediaType contentType) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new Payload(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"", contentType);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Pre-serialized body, its strong ETag and its content type.
+     */
+    public record Payload(byte[] body, String etag, MediaType contentType) {
+
+        /**
+         * Whether an {@code If-None-Match} header value matches this payload's ETag.
+         */
+        public boolean matches(String ifNoneMatch) {
+            return ResourceVersion.etagMatches(ifNoneMatch, etag);
+        }
+    }
+
+    public record Snapshot(Map<Long, DogStatus> statuses,
+                           Map<Long, LeavingReason> reasons,
+                           List<DogStatus> statusList,
+                           List<LeavingReason> reasonList,
+                           Map<String, Payload> statusesPayloads,
+                           Map<String, Payload> reasonsPayloads) {
+    }
+}
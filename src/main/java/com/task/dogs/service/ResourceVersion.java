@@ -0,0 +1,146 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.repository.DogSyncClock;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Validators for conditional requests: a strong ETag plus the {@code Last-Modified} time.
+ *
+ * @param etag         quoted entity tag
+ * @param lastModified last change, or {@code null} if unknown
+ */
+public record ResourceVersion(String etag, Instant lastModified) {
+
+    /**
+     * A single dog's version: its id and row version, which every write bumps, followed by the
+     * selected {@code fields} when the body is a projection and by the subtype when it is encoded
+     * as something other than JSON. Each body a dog can be sent as gets its own tag, and
+     * {@code If-Match} still reads just the row version out of any of them.
+     */
+    public static ResourceVersion of(DogDTO dog, Set<DogField> fields, MediaType contentType) {
+        String tag = dog.getId() + "-" + dog.getVersion();
+        if (!DogField.isAll(fields)) {
+            tag += "-f" + Long.toHexString(fieldMask(fields));
+        }
+        if (!contentType.matches(MediaType.APPLICATION_JSON_TYPE)) {
+            tag += "-" + contentType.getSubtype();
+        }
+        return new ResourceVersion("\"" + tag + "\"", toInstant(dog.getUpdatedAt()));
+    }
+
+    /**
+     * Row version named by an {@code If-Match} header for dog {@code id}, or {@code null} for
+     * {@code *} (any current version).
+     *
+     * @throws BadRequestException if the value is not a single strong ETag issued for this dog
+     */
+    public static Long expectedVersion(String ifMatch, long id) {
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new BadRequestException("If-Match must be a single ETag of dog " + id);
+        }
+        String version = tag.substring(prefix.length(), tag.length() - 1);
+        int variant = version.indexOf('-');
+        try {
+            return Long.parseLong(variant < 0 ? version : version.substring(0, variant));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must be a single ETag of dog " + id);
+        }
+    }
+
+    /**
+     * A listing's version: the request (filters, paging) and the type its body is encoded as,
+     * hashed with the stable sync position, which every committed write to the table moves.
+     */
+    public static ResourceVersion ofListing(String requestKey, MediaType contentType, DogSyncClock.Mark mark) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((requestKey + "|" + contentType.getName() + "|" + mark.position())
+                    .getBytes(StandardCharsets.UTF_8));
+            return new ResourceVersion("\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"", mark.advancedAt());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Whether a request carrying these headers already has this version. {@code If-None-Match}
+     * takes precedence; {@code If-Modified-Since} is only consulted without it.
+     */
+    public boolean notModified(Optional<String> ifNoneMatch, Optional<String> ifModifiedSince) {
+        if (ifNoneMatch.isPresent()) {
+            return etagMatches(ifNoneMatch.get(), etag);
+        }
+        if (lastModified == null || ifModifiedSince.isEmpty()) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince.get(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !lastModified.truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds {@code ETag} and {@code Last-Modified} to {@code response}.
+     */
+    public <T> MutableHttpResponse<T> apply(MutableHttpResponse<T> response) {
+        response.header(HttpHeaders.ETAG, etag);
+        if (lastModified != null) {
+            response.header(HttpHeaders.LAST_MODIFIED,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atZone(ZoneOffset.UTC)));
+        }
+        return response;
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header value matches {@code etag}.
+     */
+    public static boolean etagMatches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long fieldMask(Set<DogField> fields) {
+        long mask = 0;
+        for (DogField field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return mask;
+    }
+
+    private static Instant toInstant(LocalDateTime value) {
+        // updated_at is written in the server's local time
+        return value == null ? null : value.truncatedTo(ChronoUnit.MICROS).atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,7 @@
+-- Keyset pagination seeks on (sort column, id) among non-deleted dogs
+CREATE INDEX idx_dog_deleted_id ON dog (deleted, id);
+CREATE INDEX idx_dog_deleted_name_id ON dog (deleted, name, id);
+CREATE INDEX idx_dog_deleted_breed_id ON dog (deleted, breed, id);
+CREATE INDEX idx_dog_deleted_supplier_id ON dog (deleted, supplier, id);
+CREATE INDEX idx_dog_deleted_birth_date_id ON dog (deleted, birth_date, id);
+CREATE INDEX idx_dog_deleted_date_acquired_id ON dog (deleted, date_acquired, id);
\ No newline at end of file
@@ -0,0 +1,15 @@
+-- H2 has no expression indexes, so the lowercased search columns are materialised as
+-- generated columns and indexed instead of LOWER(name) etc.
+ALTER TABLE dog ADD COLUMN name_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(name));
+ALTER TABLE dog ADD COLUMN breed_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(breed));
+ALTER TABLE dog ADD COLUMN supplier_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(supplier));
+
+CREATE INDEX idx_dog_deleted_name_lower ON dog (deleted, name_lower);
+CREATE INDEX idx_dog_deleted_breed_lower ON dog (deleted, breed_lower);
+CREATE INDEX idx_dog_deleted_supplier_lower ON dog (deleted, supplier_lower);
+
+-- Exact-match and range filters
+CREATE INDEX idx_dog_deleted_status_id ON dog (deleted, status_id);
+CREATE INDEX idx_dog_deleted_gender ON dog (deleted, gender);
+CREATE INDEX idx_dog_badge_id ON dog (badge_id);
+CREATE INDEX idx_dog_deleted_leaving_date ON dog (deleted, leaving_date);
\ No newline at end of file
@@ -0,0 +1,2 @@
+-- Serves the MAX(updated_at) change probe behind conditional list requests
+CREATE INDEX idx_dog_updated_at_id ON dog (updated_at, id);
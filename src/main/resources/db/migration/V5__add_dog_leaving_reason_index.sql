@@ -0,0 +1,3 @@
+-- Leaving-reason lookups among non-deleted dogs (reason join from the lookup side, per-reason
+-- counts); the implicit foreign key index doesn't lead with deleted
+CREATE INDEX idx_dog_deleted_leaving_reason_id ON dog (deleted, leaving_reason_id);
@@ -0,0 +1,2 @@
+-- Row version for optimistic concurrency: every write bumps it, conditional updates match on it
+ALTER TABLE dog ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
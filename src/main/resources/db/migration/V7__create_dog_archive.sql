@@ -0,0 +1,24 @@
+-- Soft-deleted dogs past retention are moved here so the hot table only holds the active roster
+CREATE TABLE dog_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    breed VARCHAR(255) NOT NULL,
+    supplier VARCHAR(255) NOT NULL,
+    badge_id VARCHAR(100),
+    gender VARCHAR(10) NOT NULL,
+    birth_date DATE NOT NULL,
+    date_acquired DATE NOT NULL,
+    status_id BIGINT NOT NULL,
+    leaving_date DATE,
+    leaving_reason_id BIGINT,
+    kennelling_characteristic TEXT,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (status_id) REFERENCES dog_status(id),
+    FOREIGN KEY (leaving_reason_id) REFERENCES leaving_reason(id)
+);
+
+-- Finds deleted rows past retention; deleted rows are never updated again, so updated_at is the deletion time
+CREATE INDEX idx_dog_deleted_updated_at_id ON dog (deleted, updated_at, id);
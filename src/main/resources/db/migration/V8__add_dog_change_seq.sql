@@ -0,0 +1,6 @@
+-- Delta sync position, handed out by DogSyncClock to every write; rows from before it start at 0
+ALTER TABLE dog ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE dog_archive ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+
+-- Delta sync seeks on (change_seq, id), deleted rows included
+CREATE INDEX idx_dog_change_seq_id ON dog (change_seq, id);
@@ -0,0 +1,59 @@
+package com.task.dogs.config;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DogExecutorFactoryTest {
+
+    @Test
+    void testBlockingExecutorIsTheDefault() {
+        try (ApplicationContext context = ApplicationContext.run()) {
+            ExecutorService dogs = context.getBean(ExecutorService.class, Qualifiers.byName(DogExecutorFactory.DOGS));
+
+            assertSame(context.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING)), dogs);
+        }
+    }
+
+    @Test
+    void testVirtualModeRunsOnVirtualThreadsWithinTheBound() throws Exception {
+        Map<String, Object> properties = Map.of(
+            DogExecutorFactory.MODE_PROPERTY, DogExecutorFactory.MODE_VIRTUAL,
+            "dogs.execution.max-concurrent", 2
+        );
+        try (ApplicationContext context = ApplicationContext.run(properties)) {
+            ExecutorService dogs = context.getBean(ExecutorService.class, Qualifiers.byName(DogExecutorFactory.DOGS));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                        return Thread.currentThread().isVirtual();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            }
+
+            for (Future<Boolean> result : dogs.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+            assertTrue(peak.get() <= 2, "at most max-concurrent tasks run at once, saw " + peak.get());
+        }
+    }
+}
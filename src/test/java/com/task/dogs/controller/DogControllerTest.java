@@ -1,18 +1,25 @@
 package com.task.dogs.controller;
 
+import com.task.dogs.codec.BinaryCodecs;
+import com.task.dogs.codec.BinaryMediaTypes;
 import com.task.dogs.domain.dto.DogDTO;
 import io.micronaut.data.model.Page;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +32,9 @@ class DogControllerTest {
     @Client("/")
     HttpClient client;
 
+    @Inject
+    BinaryCodecs binaryCodecs;
+
     @Test
     void testCreateDog() {
         DogDTO dogDTO = createTestDogDTO();
@@ -85,6 +95,46 @@ class DogControllerTest {
         assertEquals("Rex", response.body().getName());
     }
 
+    @Test
+    void testGetDogByIdWithSparseFields() {
+        DogDTO dogDTO = createTestDogDTO();
+        dogDTO.setKennellingCharacteristic("Nervous around traffic");
+        Long dogId = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", dogDTO), DogDTO.class).body().getId();
+
+        HttpResponse<String> response = client.toBlocking()
+            .exchange(HttpRequest.GET("/api/dogs/dogs/" + dogId + "?fields=name,statusName"), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertNotNull(response.header(HttpHeaders.ETAG));
+        assertThat(response.body()).contains("\"id\"", "\"name\"", "\"statusName\"");
+        assertThat(response.body()).doesNotContain("breed", "kennellingCharacteristic", "version");
+
+        HttpClientResponseException unknown = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+            .exchange(HttpRequest.GET("/api/dogs/dogs/" + dogId + "?fields=name,owner"), String.class));
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatus());
+    }
+
+    @Test
+    void testCborRoundTrip() throws IOException {
+        DogDTO dogDTO = createTestDogDTO();
+        HttpResponse<byte[]> created = client.toBlocking().exchange(HttpRequest.POST("/api/dogs/dogs",
+                binaryCodecs.encode(BinaryMediaTypes.APPLICATION_CBOR_TYPE, dogDTO))
+            .contentType(BinaryMediaTypes.APPLICATION_CBOR_TYPE)
+            .accept(BinaryMediaTypes.APPLICATION_CBOR_TYPE), byte[].class);
+
+        assertEquals(HttpStatus.CREATED, created.getStatus());
+        assertEquals(BinaryMediaTypes.APPLICATION_CBOR, created.getContentType().orElseThrow().getName());
+        DogDTO body = binaryCodecs.cbor().readValue(created.body(), DogDTO.class);
+        assertEquals("Rex", body.getName());
+        assertEquals(dogDTO.getBirthDate(), body.getBirthDate());
+
+        HttpResponse<byte[]> statuses = client.toBlocking().exchange(HttpRequest.GET("/api/dogs/statuses")
+            .accept(BinaryMediaTypes.APPLICATION_SMILE_TYPE), byte[].class);
+        assertEquals(BinaryMediaTypes.APPLICATION_SMILE, statuses.getContentType().orElseThrow().getName());
+        assertTrue(binaryCodecs.smile().readTree(statuses.body()).isArray());
+    }
+
     @Test
     void testGetDogByIdNotFound() {
         HttpRequest<Object> request = HttpRequest.GET("/api/dogs/dogs/99999");
@@ -179,6 +229,182 @@ class DogControllerTest {
         assertNotNull(response.body());
     }
 
+    @Test
+    void testExportStreamsOneJsonLinePerDog() {
+        DogDTO dog = createTestDogDTO();
+        dog.setName("Exported");
+        DogDTO created = client.toBlocking().exchange(HttpRequest.POST("/api/dogs/dogs", dog), DogDTO.class).body();
+
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET("/api/dogs/dogs/export"), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertThat(response.getContentType()).hasValueSatisfying(type -> assertEquals("application/x-ndjson", type.toString()));
+        String[] lines = response.body().split("\n");
+        assertTrue(lines.length >= 1);
+        assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"id\":" + created.getId() + ","));
+    }
+
+    @Test
+    void testConditionalGetReturnsNotModifiedUntilTheDogChanges() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+        String path = "/api/dogs/dogs/" + created.getId();
+
+        HttpResponse<DogDTO> first = client.toBlocking().exchange(HttpRequest.GET(path), DogDTO.class);
+        String etag = first.header(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertNotNull(first.header(HttpHeaders.LAST_MODIFIED));
+
+        HttpResponse<?> revalidated = client.toBlocking().exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatus());
+
+        DogDTO update = createTestDogDTO();
+        update.setName("Rex II");
+        client.toBlocking().exchange(HttpRequest.PUT(path, update), DogDTO.class);
+
+        HttpResponse<DogDTO> changed = client.toBlocking().exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, etag), DogDTO.class);
+        assertEquals(HttpStatus.OK, changed.getStatus());
+        assertNotEquals(etag, changed.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testSparseFieldsHaveTheirOwnEtag() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+        String path = "/api/dogs/dogs/" + created.getId();
+        String fullEtag = client.toBlocking().exchange(HttpRequest.GET(path), DogDTO.class).header(HttpHeaders.ETAG);
+
+        HttpResponse<String> sparse = client.toBlocking().exchange(HttpRequest.GET(path + "?fields=name")
+            .header(HttpHeaders.IF_NONE_MATCH, fullEtag), String.class);
+        assertEquals(HttpStatus.OK, sparse.getStatus());
+        String sparseEtag = sparse.header(HttpHeaders.ETAG);
+        assertNotEquals(fullEtag, sparseEtag);
+        assertNotEquals(sparseEtag, client.toBlocking()
+            .exchange(HttpRequest.GET(path + "?fields=name,breed"), String.class).header(HttpHeaders.ETAG));
+
+        HttpResponse<?> revalidated = client.toBlocking().exchange(HttpRequest.GET(path + "?fields=name")
+            .header(HttpHeaders.IF_NONE_MATCH, sparseEtag));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatus());
+
+        // The row version in a projection's tag is still good for a conditional update
+        HttpResponse<DogDTO> applied = client.toBlocking()
+            .exchange(HttpRequest.PUT(path, createTestDogDTO()).header(HttpHeaders.IF_MATCH, sparseEtag), DogDTO.class);
+        assertEquals(HttpStatus.OK, applied.getStatus());
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatchIsRejectedWithConflict() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+        String path = "/api/dogs/dogs/" + created.getId();
+        String etag = client.toBlocking().exchange(HttpRequest.GET(path), DogDTO.class).header(HttpHeaders.ETAG);
+
+        DogDTO first = createTestDogDTO();
+        first.setName("First Writer");
+        HttpResponse<DogDTO> applied = client.toBlocking()
+            .exchange(HttpRequest.PUT(path, first).header(HttpHeaders.IF_MATCH, etag), DogDTO.class);
+        assertEquals(HttpStatus.OK, applied.getStatus());
+        assertNotEquals(etag, applied.header(HttpHeaders.ETAG));
+
+        DogDTO second = createTestDogDTO();
+        second.setName("Second Writer");
+        HttpClientResponseException conflict = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+            .exchange(HttpRequest.PUT(path, second).header(HttpHeaders.IF_MATCH, etag), DogDTO.class));
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatus());
+
+        assertEquals("First Writer", client.toBlocking().exchange(HttpRequest.GET(path), DogDTO.class).body().getName());
+    }
+
+    @Test
+    void testMergePatchWritesOnlySuppliedFields() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+        String path = "/api/dogs/dogs/" + created.getId();
+
+        String statusChange = "{\"statusId\": 2, \"badgeId\": null}";
+        HttpResponse<DogDTO> patched = client.toBlocking().exchange(HttpRequest.PATCH(path, statusChange)
+            .contentType("application/merge-patch+json"), DogDTO.class);
+
+        assertEquals(HttpStatus.OK, patched.getStatus());
+        assertEquals(2L, patched.body().getStatusId());
+        assertEquals("In Service", patched.body().getStatusName());
+        assertNull(patched.body().getBadgeId());
+        assertEquals("Rex", patched.body().getName());
+        assertEquals("Friendly, high energy", patched.body().getKennellingCharacteristic());
+
+        HttpResponse<DogDTO> minimal = client.toBlocking().exchange(HttpRequest.PATCH(path, Map.of("name", "Rex II"))
+            .contentType("application/merge-patch+json")
+            .header(HttpHeaders.IF_MATCH, patched.header(HttpHeaders.ETAG))
+            .header("Prefer", "return=minimal"), DogDTO.class);
+        assertEquals(HttpStatus.NO_CONTENT, minimal.getStatus());
+        assertNotEquals(patched.header(HttpHeaders.ETAG), minimal.header(HttpHeaders.ETAG));
+        assertEquals("Rex II", client.toBlocking().exchange(HttpRequest.GET(path), DogDTO.class).body().getName());
+
+        HttpClientResponseException stale = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+            .exchange(HttpRequest.PATCH(path, statusChange).contentType("application/merge-patch+json")
+                .header(HttpHeaders.IF_MATCH, patched.header(HttpHeaders.ETAG)), DogDTO.class));
+        assertEquals(HttpStatus.CONFLICT, stale.getStatus());
+    }
+
+    @Test
+    void testConditionalListingIsInvalidatedByWrites() {
+        String path = "/api/dogs/dogs?page=0&size=5";
+        String etag = client.toBlocking().exchange(HttpRequest.GET(path), Page.class).header(HttpHeaders.ETAG);
+
+        HttpResponse<?> revalidated = client.toBlocking().exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatus());
+
+        client.toBlocking().exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class);
+
+        HttpResponse<Page> changed = client.toBlocking().exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, etag), Page.class);
+        assertEquals(HttpStatus.OK, changed.getStatus());
+    }
+
+    @Test
+    void testEachEncodingHasItsOwnEtag() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+
+        for (String path : new String[] {"/api/dogs/dogs/" + created.getId(), "/api/dogs/dogs?page=0&size=5"}) {
+            String jsonEtag = client.toBlocking().exchange(HttpRequest.GET(path), String.class).header(HttpHeaders.ETAG);
+
+            HttpResponse<byte[]> cbor = client.toBlocking().exchange(HttpRequest.GET(path)
+                .accept(BinaryMediaTypes.APPLICATION_CBOR_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonEtag), byte[].class);
+            assertEquals(HttpStatus.OK, cbor.getStatus(), path);
+            String cborEtag = cbor.header(HttpHeaders.ETAG);
+            assertNotEquals(jsonEtag, cborEtag, path);
+
+            HttpResponse<byte[]> smile = client.toBlocking().exchange(HttpRequest.GET(path)
+                .accept(BinaryMediaTypes.APPLICATION_SMILE_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, cborEtag), byte[].class);
+            assertEquals(HttpStatus.OK, smile.getStatus(), path);
+
+            HttpResponse<?> revalidated = client.toBlocking().exchange(HttpRequest.GET(path)
+                .accept(BinaryMediaTypes.APPLICATION_CBOR_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, cborEtag));
+            assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatus(), path);
+        }
+    }
+
+    @Test
+    void testBodyIsEncodedAsItsEtagSays() {
+        DogDTO created = client.toBlocking()
+            .exchange(HttpRequest.POST("/api/dogs/dogs", createTestDogDTO()), DogDTO.class).body();
+        String path = "/api/dogs/dogs/" + created.getId();
+
+        HttpResponse<byte[]> cbor = client.toBlocking().exchange(HttpRequest.GET(path)
+            .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"), byte[].class);
+        assertEquals(BinaryMediaTypes.APPLICATION_CBOR, cbor.getContentType().orElseThrow().getName());
+        assertThat(cbor.header(HttpHeaders.ETAG)).endsWith("-cbor\"");
+
+        HttpResponse<byte[]> json = client.toBlocking().exchange(HttpRequest.GET(path)
+            .header(HttpHeaders.ACCEPT, "application/cbor;q=0.1, application/json"), byte[].class);
+        assertEquals(MediaType.APPLICATION_JSON, json.getContentType().orElseThrow().getName());
+        assertEquals("\"" + created.getId() + "-" + created.getVersion() + "\"", json.header(HttpHeaders.ETAG));
+    }
+
     private DogDTO createTestDogDTO() {
         DogDTO dogDTO = new DogDTO();
         dogDTO.setName("Rex");
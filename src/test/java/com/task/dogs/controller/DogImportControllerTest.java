@@ -0,0 +1,51 @@
+package com.task.dogs.controller;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.ImportReport;
+import com.task.dogs.service.DogService;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Import batches commit in their own transactions, so this class can't run inside a rolled-back one
+@MicronautTest(transactional = false)
+class DogImportControllerTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    DogService dogService;
+
+    @Test
+    void testImportedDogsAreSearchableThroughTheServer() {
+        String csv = """
+            name,breed,supplier,gender,birthDate,dateAcquired,status
+            Adminimport,Pointer,Csv Kennels,Male,2020-01-01,2021-01-01,In Service
+            ,Pointer,Csv Kennels,Male,2020-01-01,2021-01-01,In Service
+            """;
+
+        HttpResponse<ImportReport> response = client.toBlocking().exchange(
+            HttpRequest.POST("/api/dogs/admin/import/dogs", csv).contentType("text/csv"), ImportReport.class);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(1, response.body().getImported());
+        assertEquals(List.of(3L), response.body().getRejections().stream().map(ImportReport.Rejection::getLine).toList());
+
+        // A substring search is answered from the server's in-memory index
+        List<DogDTO> found = dogService.searchDogs("minimpor", null, null, Pageable.from(0, 10)).getContent();
+        assertEquals(1, found.size());
+        dogService.deleteDog(found.get(0).getId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.task.dogs.controller;
+
+import com.task.dogs.codec.BinaryMediaTypes;
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.domain.entity.LeavingReason;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+class LookupControllerTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void testGetAllStatuses() {
+        HttpResponse<List<DogStatus>> response = client.toBlocking()
+            .exchange(HttpRequest.GET("/api/dogs/statuses"), Argument.listOf(DogStatus.class));
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertThat(response.body()).extracting(DogStatus::getStatusName)
+            .containsExactly("In Training", "In Service", "Retired", "Left");
+        assertNotNull(response.header(HttpHeaders.ETAG));
+        assertEquals("public, max-age=86400", response.header(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void testGetAllReasons() {
+        HttpResponse<List<LeavingReason>> response = client.toBlocking()
+            .exchange(HttpRequest.GET("/api/dogs/leaving-reasons"), Argument.listOf(LeavingReason.class));
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertThat(response.body()).extracting(LeavingReason::getReasonName).contains("Transferred", "Died");
+        assertNotNull(response.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testMatchingIfNoneMatchReturnsNotModified() {
+        for (String path : List.of("/api/dogs/statuses", "/api/dogs/leaving-reasons")) {
+            String etag = client.toBlocking().exchange(HttpRequest.GET(path), String.class).header(HttpHeaders.ETAG);
+
+            HttpResponse<?> revalidated = client.toBlocking().exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, etag));
+            assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatus());
+            assertEquals(etag, revalidated.header(HttpHeaders.ETAG));
+
+            HttpResponse<String> stale = client.toBlocking()
+                .exchange(HttpRequest.GET(path).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""), String.class);
+            assertEquals(HttpStatus.OK, stale.getStatus());
+        }
+    }
+
+    @Test
+    void testEachEncodingHasItsOwnEtag() {
+        String path = "/api/dogs/statuses";
+        String jsonEtag = client.toBlocking().exchange(HttpRequest.GET(path), String.class).header(HttpHeaders.ETAG);
+
+        HttpResponse<byte[]> cbor = client.toBlocking().exchange(HttpRequest.GET(path)
+            .accept(BinaryMediaTypes.APPLICATION_CBOR_TYPE)
+            .header(HttpHeaders.IF_NONE_MATCH, jsonEtag), byte[].class);
+
+        assertEquals(HttpStatus.OK, cbor.getStatus());
+        assertNotEquals(jsonEtag, cbor.header(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT, cbor.header(HttpHeaders.VARY));
+    }
+}
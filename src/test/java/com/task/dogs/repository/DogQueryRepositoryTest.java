@@ -0,0 +1,140 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.service.DogService;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DogQueryRepositoryTest {
+
+    @Inject
+    DogQueryRepository dogQueryRepository;
+
+    @Inject
+    DogService dogService;
+
+    @BeforeAll
+    void seedDogs() {
+        for (int i = 0; i < 50; i++) {
+            DogDTO dog = new DogDTO();
+            dog.setName((i % 2 == 0 ? "Rex" : "Max") + i);
+            dog.setBreed(i % 3 == 0 ? "Beagle" : "German Shepherd");
+            dog.setSupplier("Supplier " + (i % 5));
+            dog.setBadgeId("PLAN-" + i);
+            dog.setGender(i % 2 == 0 ? "Male" : "Female");
+            dog.setBirthDate(LocalDate.of(2018, 1, 1).plusDays(i * 10L));
+            dog.setDateAcquired(LocalDate.of(2020, 1, 1).plusDays(i * 10L));
+            dog.setStatusId(1L + (i % 3));
+            dogService.createDog(dog);
+        }
+    }
+
+    @Test
+    void testPrefixMatchUsesLowercasedColumnIndex() {
+        DogSearchCriteria criteria = new DogSearchCriteria("REX", null, null);
+        criteria.setMatch(DogSearchCriteria.MATCH_PREFIX);
+
+        List<DogDTO> dogs = dogQueryRepository.findPage(criteria, Pageable.from(0, 100), 100);
+
+        assertEquals(25, dogs.size());
+        assertTrue(dogs.stream().allMatch(d -> d.getName().startsWith("Rex")));
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.countStatement(criteria))
+            .assertIndex("IDX_DOG_DELETED_NAME_LOWER", "DELETED = FALSE", "NAME_LOWER >= ?", "NAME_LOWER < ?");
+    }
+
+    @Test
+    void testExactMatchesUseIndexes() {
+        DogSearchCriteria byStatus = new DogSearchCriteria();
+        byStatus.setStatusId(2L);
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.countStatement(byStatus))
+            .assertIndex("IDX_DOG_DELETED_STATUS_ID", "DELETED = FALSE", "STATUS_ID = ?");
+
+        DogSearchCriteria byBadge = new DogSearchCriteria();
+        byBadge.setBadgeId("PLAN-7");
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.countStatement(byBadge))
+            .assertIndex("IDX_DOG_BADGE_ID", "BADGE_ID = ?");
+        assertEquals(1, dogQueryRepository.count(byBadge));
+    }
+
+    @Test
+    void testDateRangeUsesIndex() {
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        criteria.setDateAcquiredFrom(LocalDate.of(2020, 2, 1));
+        criteria.setDateAcquiredTo(LocalDate.of(2020, 3, 1));
+
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.countStatement(criteria))
+            .assertIndex("IDX_DOG_DELETED_DATE_ACQUIRED_ID", "DELETED = FALSE", "DATE_ACQUIRED >= ?", "DATE_ACQUIRED <= ?");
+        assertEquals(3, dogQueryRepository.count(criteria));
+    }
+
+    @Test
+    void testKeysetPageSeeksPastTheBound() {
+        List<DogDTO> first = dogQueryRepository.findKeysetPage(DogSearchCriteria.none(), DogSortField.NAME, false, null, null, 10);
+        DogDTO last = first.get(first.size() - 1);
+
+        List<DogDTO> next = dogQueryRepository.findKeysetPage(DogSearchCriteria.none(), DogSortField.NAME, false,
+            last.getName(), last.getId(), 10);
+
+        assertThat(next).isNotEmpty();
+        assertThat(next).allSatisfy(dog -> assertThat(dog.getName().compareTo(last.getName()) > 0
+            || dog.getName().equals(last.getName()) && dog.getId() > last.getId()).isTrue());
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.keysetStatement(DogSearchCriteria.none(), DogSortField.NAME, false,
+                last.getName(), last.getId(), 10, DogField.ALL))
+            .assertIndex("IDX_DOG_DELETED_NAME_ID", "DELETED = FALSE", "NAME >= ?");
+        QueryPlan.of(dogQueryRepository, dogQueryRepository.keysetStatement(DogSearchCriteria.none(), DogSortField.ID, true,
+                last.getId(), last.getId(), 10, DogField.ALL))
+            .assertIndex("IDX_DOG_DELETED_ID", "DELETED = FALSE", "ID < ?");
+    }
+
+    @Test
+    void testOnlySuppliedFiltersBecomePredicates() {
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        criteria.setGender("Female");
+
+        String sql = dogQueryRepository.countStatement(criteria).sql();
+
+        assertThat(sql).contains("d.gender = ?");
+        assertThat(sql).doesNotContain("name_lower", "IS NULL");
+    }
+
+    @Test
+    void testContainsMatchTreatsWildcardsLiterally() {
+        DogSearchCriteria criteria = new DogSearchCriteria("%", null, null);
+
+        assertEquals(0, dogQueryRepository.count(criteria));
+    }
+
+    @Test
+    void testSparseFieldsNarrowSelectListAndJoins() {
+        Set<DogField> fields = DogField.parse("name,badgeId");
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        criteria.setBadgeId("PLAN-3");
+
+        String sql = dogQueryRepository.pageStatement(criteria, Pageable.from(0, 10), 10, fields).sql();
+        List<DogDTO> dogs = dogQueryRepository.findPage(criteria, Pageable.from(0, 10), 10, fields);
+
+        assertThat(sql).startsWith("SELECT d.id, d.name, d.badge_id FROM dog d WHERE");
+        assertThat(sql).doesNotContain("kennelling_characteristic", "JOIN");
+        assertEquals(1, dogs.size());
+        assertEquals("Max3", dogs.get(0).getName());
+        assertEquals("PLAN-3", dogs.get(0).getBadgeId());
+        assertNull(dogs.get(0).getBreed());
+        assertNull(dogs.get(0).getStatusId());
+        assertEquals(DogRepository.DOG_DTO_SELECT, DogQueryRepository.select(DogField.ALL));
+    }
+}
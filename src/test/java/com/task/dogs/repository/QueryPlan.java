@@ -0,0 +1,69 @@
+package com.task.dogs.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How H2's {@code EXPLAIN} output says the {@code dog} table is read: the index, the conditions
+ * the index is searched with, and whether rows come back in index order. Conditions are
+ * normalized to unquoted SQL with numbered parameters shown as a bare {@code ?}, e.g.
+ * {@code NAME_LOWER >= ?}.
+ */
+final class QueryPlan {
+
+    private static final Pattern DOG_INDEX = Pattern.compile("PUBLIC\\.DOG(?: D)? /\\* PUBLIC\\.([A-Za-z0-9_.]+)(?:: (.*?))? \\*/");
+
+    private final String text;
+    private final String index;
+    private final List<String> conditions;
+
+    private QueryPlan(String text) {
+        this.text = text;
+        String normalized = text.replace("\"", "").replaceAll("\\s+", " ").replaceAll("\\?\\d+", "?");
+        Matcher matcher = DOG_INDEX.matcher(normalized);
+        assertThat(matcher.find()).as("dog table access in plan:%n%s", text).isTrue();
+        this.index = matcher.group(1);
+        this.conditions = matcher.group(2) == null ? List.of() : Arrays.asList(matcher.group(2).split(" AND "));
+    }
+
+    static QueryPlan of(DogQueryRepository repository, SqlStatement statement) {
+        return new QueryPlan(repository.explain(statement));
+    }
+
+    /**
+     * Asserts the {@code dog} table is searched through {@code expectedIndex} with (at least)
+     * {@code expectedConditions}, so a plan that uses the right index but only narrows it on
+     * {@code deleted} still fails.
+     */
+    QueryPlan assertIndex(String expectedIndex, String... expectedConditions) {
+        assertThat(index).as("index in plan:%n%s", text).isEqualTo(expectedIndex);
+        assertThat(conditions).as("index conditions in plan:%n%s", text).contains(expectedConditions);
+        return this;
+    }
+
+    /**
+     * Asserts rows are read in index order, so {@code ORDER BY ... LIMIT} stops early instead
+     * of sorting every match.
+     */
+    QueryPlan assertIndexSorted() {
+        assertThat(text).as("plan:%n%s", text).contains("index sorted");
+        return this;
+    }
+
+    String index() {
+        return index;
+    }
+
+    List<String> conditions() {
+        return conditions;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,210 @@
+package com.task.dogs.repository;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.service.DogService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression suite: runs {@code EXPLAIN} on every query declared on {@link DogRepository}
+ * and on each statement shape {@link DogQueryRepository} builds, and checks the {@code dog}
+ * table is searched through the index meant for it, with the filter or keyset bound as an index
+ * condition. Every listing index leads with {@code deleted}, so "uses some index" alone would
+ * pass for a plan that reads every live row.
+ * <p>
+ * Two shapes read every live row by design and aren't listed: unfiltered counts (kept off the
+ * request path by {@code DogCountCache}) and substring filters (resolved through
+ * {@code DogTextIndex}; the {@code LIKE} fallback has no range to search). Descending first
+ * pages aren't either: H2 only reads an index in ascending order, so they sort the live rows.
+ */
+@MicronautTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    @Inject
+    ApplicationContext applicationContext;
+
+    @Inject
+    DogQueryRepository dogQueryRepository;
+
+    @Inject
+    DogService dogService;
+
+    @BeforeAll
+    void seedDogs() {
+        // Enough rows that the optimizer's cost model prefers indexes wherever one applies
+        for (int i = 0; i < 200; i++) {
+            DogDTO dog = new DogDTO();
+            dog.setName("Plan" + i);
+            dog.setBreed(i % 2 == 0 ? "Labrador" : "Malinois");
+            dog.setSupplier("Kennel " + (i % 7));
+            dog.setBadgeId("QP-" + i);
+            dog.setGender(i % 2 == 0 ? "Male" : "Female");
+            dog.setBirthDate(LocalDate.of(2017, 1, 1).plusDays(i));
+            dog.setDateAcquired(LocalDate.of(2019, 1, 1).plusDays(i));
+            dog.setStatusId(1L + (i % 3));
+            dogService.createDog(dog);
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> declaredRepositoryQueriesUseIndexes() {
+        // Named parameters are all ids here and are replaced by the literal 1
+        Map<String, Consumer<QueryPlan>> expected = Map.of(
+            "findDtoByIdNonDeleted", plan -> plan.assertIndex("IDX_DOG_DELETED_ID", "DELETED = FALSE", "ID = 1"),
+            "softDelete", plan -> plan.assertIndex("IDX_DOG_DELETED_ID", "DELETED = FALSE", "ID = 1")
+        );
+
+        BeanDefinition<DogRepository> definition = applicationContext.getBeanDefinition(DogRepository.class);
+        List<DynamicTest> tests = new ArrayList<>();
+        for (Method declared : DogRepository.class.getDeclaredMethods()) {
+            if (declared.isSynthetic()) {
+                continue;
+            }
+            ExecutableMethod<DogRepository, ?> method = definition.getRequiredMethod(declared.getName(), declared.getParameterTypes());
+            String sql = method.stringValue(Query.class).orElseThrow();
+            tests.add(DynamicTest.dynamicTest(declared.getName(), () -> {
+                assertThat(expected).as("expected plan for %s", declared.getName()).containsKey(declared.getName());
+                expected.get(declared.getName()).accept(
+                    QueryPlan.of(dogQueryRepository, new SqlStatement(sql.replaceAll(":\\w+", "1"))));
+            }));
+        }
+        assertThat(tests).as("@Query methods declared on DogRepository").hasSameSizeAs(expected.keySet());
+        return tests.stream();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> builtStatementsUseIndexes() {
+        List<DynamicTest> tests = new ArrayList<>();
+
+        for (DogSortField sort : DogSortField.values()) {
+            String index = sortIndex(sort);
+            String column = sort.getColumn().substring("d.".length()).toUpperCase(Locale.ROOT);
+            Object key = sort == DogSortField.ID ? 10L : sort.keyOf(sampleDog());
+
+            expect(tests, "keyset first page by " + sort.getProperty() + " asc",
+                dogQueryRepository.keysetStatement(DogSearchCriteria.none(), sort, false, null, null, 20, DogField.ALL),
+                plan -> plan.assertIndex(index, "DELETED = FALSE").assertIndexSorted());
+            expect(tests, "keyset next page by " + sort.getProperty() + " asc",
+                dogQueryRepository.keysetStatement(DogSearchCriteria.none(), sort, false, key, 10L, 20, DogField.ALL),
+                plan -> plan.assertIndex(index, sort == DogSortField.ID ? "ID > ?" : column + " >= ?").assertIndexSorted());
+            expect(tests, "keyset next page by " + sort.getProperty() + " desc",
+                dogQueryRepository.keysetStatement(DogSearchCriteria.none(), sort, true, key, 10L, 20, DogField.ALL),
+                plan -> plan.assertIndex(index, sort == DogSortField.ID ? "ID < ?" : column + " <= ?"));
+
+            Pageable pageable = Pageable.from(2, 20, Sort.of(Sort.Order.asc(sort.getProperty())));
+            expect(tests, "offset page by " + sort.getProperty(),
+                dogQueryRepository.pageStatement(DogSearchCriteria.none(), pageable, 20, DogField.ALL),
+                plan -> plan.assertIndex(index, "DELETED = FALSE").assertIndexSorted());
+        }
+
+        filter(tests, "name prefix", prefix(new DogSearchCriteria("plan1", null, null)),
+            "IDX_DOG_DELETED_NAME_LOWER", "NAME_LOWER >= ?", "NAME_LOWER < ?");
+        filter(tests, "breed prefix", prefix(new DogSearchCriteria(null, "lab", null)),
+            "IDX_DOG_DELETED_BREED_LOWER", "BREED_LOWER >= ?", "BREED_LOWER < ?");
+        filter(tests, "supplier prefix", prefix(new DogSearchCriteria(null, null, "kennel 3")),
+            "IDX_DOG_DELETED_SUPPLIER_LOWER", "SUPPLIER_LOWER >= ?", "SUPPLIER_LOWER < ?");
+        filter(tests, "ids", with(c -> c.setIds(new long[] {1, 2, 3})),
+            "IDX_DOG_DELETED_ID", "ID = ANY(?)");
+        filter(tests, "status", with(c -> c.setStatusId(2L)),
+            "IDX_DOG_DELETED_STATUS_ID", "STATUS_ID = ?");
+        filter(tests, "gender", with(c -> c.setGender("Female")),
+            "IDX_DOG_DELETED_GENDER", "GENDER = ?");
+        filter(tests, "badge", with(c -> c.setBadgeId("QP-7")),
+            "IDX_DOG_BADGE_ID", "BADGE_ID = ?");
+        filter(tests, "birth date range", with(c -> {
+            c.setBirthDateFrom(LocalDate.of(2017, 2, 1));
+            c.setBirthDateTo(LocalDate.of(2017, 3, 1));
+        }), "IDX_DOG_DELETED_BIRTH_DATE_ID", "BIRTH_DATE >= ?", "BIRTH_DATE <= ?");
+        filter(tests, "date acquired from", with(c -> c.setDateAcquiredFrom(LocalDate.of(2019, 6, 1))),
+            "IDX_DOG_DELETED_DATE_ACQUIRED_ID", "DATE_ACQUIRED >= ?");
+        filter(tests, "leaving date to", with(c -> c.setLeavingDateTo(LocalDate.of(2024, 1, 1))),
+            "IDX_DOG_DELETED_LEAVING_DATE", "LEAVING_DATE <= ?");
+
+        expect(tests, "changed since position",
+            dogQueryRepository.changedSinceStatement(40L, Long.MAX_VALUE, 200L, 100, DogField.ALL),
+            plan -> plan.assertIndex("IDX_DOG_CHANGE_SEQ_ID", "CHANGE_SEQ >= ?", "CHANGE_SEQ <= ?").assertIndexSorted());
+        expect(tests, "changed since token",
+            dogQueryRepository.changedSinceStatement(40L, 10L, 200L, 100, DogField.ALL),
+            plan -> plan.assertIndex("IDX_DOG_CHANGE_SEQ_ID", "CHANGE_SEQ >= ?", "CHANGE_SEQ <= ?").assertIndexSorted());
+        expect(tests, "first position changed since timestamp",
+            dogQueryRepository.firstPositionStatement(LocalDateTime.now().minusDays(1)),
+            plan -> plan.assertIndex("IDX_DOG_UPDATED_AT_ID", "UPDATED_AT > ?"));
+
+        Set<DogField> sparse = DogField.parse("name,badgeId,statusName");
+        expect(tests, "sparse keyset",
+            dogQueryRepository.keysetStatement(DogSearchCriteria.none(), DogSortField.ID, false, null, 10L, 20, sparse),
+            plan -> plan.assertIndex("IDX_DOG_DELETED_ID", "DELETED = FALSE", "ID > ?").assertIndexSorted());
+        expect(tests, "by id", dogQueryRepository.byIdStatement(10L, sparse),
+            plan -> plan.assertIndex("IDX_DOG_DELETED_ID", "DELETED = FALSE", "ID = ?"));
+
+        return tests.stream();
+    }
+
+    private void filter(List<DynamicTest> tests, String name, DogSearchCriteria criteria,
+                        String index, String... conditions) {
+        expect(tests, "count " + name, dogQueryRepository.countStatement(criteria),
+            plan -> plan.assertIndex(index, conditions));
+        expect(tests, "keyset " + name,
+            dogQueryRepository.keysetStatement(criteria, DogSortField.ID, false, null, null, 20, DogField.ALL),
+            plan -> plan.assertIndex(index, conditions));
+    }
+
+    private void expect(List<DynamicTest> tests, String name, SqlStatement statement, Consumer<QueryPlan> expectation) {
+        tests.add(DynamicTest.dynamicTest(name, () -> expectation.accept(QueryPlan.of(dogQueryRepository, statement))));
+    }
+
+    /**
+     * The {@code (deleted, column, id)} index a listing sorted by {@code sort} is read through.
+     */
+    private static String sortIndex(DogSortField sort) {
+        return sort == DogSortField.ID ? "IDX_DOG_DELETED_ID" : "IDX_DOG_DELETED_" + sort.name() + "_ID";
+    }
+
+    private static DogSearchCriteria prefix(DogSearchCriteria criteria) {
+        criteria.setMatch(DogSearchCriteria.MATCH_PREFIX);
+        return criteria;
+    }
+
+    private static DogSearchCriteria with(Consumer<DogSearchCriteria> filter) {
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        filter.accept(criteria);
+        return criteria;
+    }
+
+    private static DogDTO sampleDog() {
+        DogDTO dog = new DogDTO();
+        dog.setId(10L);
+        dog.setName("Plan10");
+        dog.setBreed("Labrador");
+        dog.setSupplier("Kennel 3");
+        dog.setBirthDate(LocalDate.of(2017, 1, 11));
+        dog.setDateAcquired(LocalDate.of(2019, 1, 11));
+        return dog;
+    }
+}
@@ -0,0 +1,79 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.ArchiveRun;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.exception.ResourceNotFoundException;
+import com.task.dogs.repository.DogRepository;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogArchiverTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogArchiver dogArchiver;
+
+    @Inject
+    DogRepository dogRepository;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testArchivalMovesDeletedDogsOutOfTheHotTable() {
+        DogDTO created = create(createTestDogDTO());
+        Long kept = create(createTestDogDTO()).getId();
+        dogService.deleteDog(created.getId());
+
+        assertEquals(0, dogArchiver.archiveDeletedBefore(LocalDateTime.now().minusDays(1)).getMoved());
+
+        ArchiveRun run = dogArchiver.archiveDeletedBefore(LocalDateTime.now().plusSeconds(1));
+
+        assertTrue(run.getMoved() >= 1);
+        assertTrue(dogRepository.findById(created.getId()).isEmpty());
+        assertEquals("Rex", dogArchiver.getArchivedDog(created.getId()).getName());
+        assertEquals(kept, dogService.getDogById(kept).getId());
+        assertThrows(ResourceNotFoundException.class, () -> dogArchiver.getArchivedDog(kept));
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
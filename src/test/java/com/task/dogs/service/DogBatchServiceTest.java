@@ -0,0 +1,167 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.BatchItemResult;
+import com.task.dogs.domain.dto.BatchResult;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.exception.ResourceNotFoundException;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogBatchServiceTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    @Inject
+    DogChangeFeed dogChangeFeed;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testBulkDeleteByIdsAndByFilter() {
+        Long first = create(createTestDogDTO()).getId();
+        Long second = create(createTestDogDTO()).getId();
+
+        BatchResult byIds = dogBatchService.deleteDogs(Arrays.asList(first, second, 99999L, null));
+
+        assertEquals(2, byIds.getSucceeded());
+        assertEquals(BatchItemResult.Status.DELETED, byIds.getResults().get(0).getStatus());
+        assertEquals(BatchItemResult.Status.DELETED, byIds.getResults().get(1).getStatus());
+        assertEquals(BatchItemResult.Status.NOT_FOUND, byIds.getResults().get(2).getStatus());
+        assertEquals(BatchItemResult.Status.INVALID, byIds.getResults().get(3).getStatus());
+        assertThrows(ResourceNotFoundException.class, () -> dogService.getDogById(first));
+
+        for (int i = 0; i < 3; i++) {
+            DogDTO intake = createTestDogDTO();
+            intake.setSupplier("Retiring Kennels");
+            create(intake);
+        }
+        DogSearchCriteria supplier = new DogSearchCriteria(null, null, "retiring kennels");
+
+        assertEquals(3, dogBatchService.deleteMatching(supplier).getDeleted());
+        assertEquals(0, dogService.searchDogs(supplier, Pageable.from(0, 10)).getTotalSize());
+        assertThrows(BadRequestException.class, () -> dogBatchService.deleteMatching(DogSearchCriteria.none()));
+    }
+
+    @Test
+    void testBatchCreateAndUpdateReportPerItemResults() {
+        DogDTO valid = createTestDogDTO();
+        valid.setName("Batchy");
+        DogDTO invalid = createTestDogDTO();
+        invalid.setName("");
+        DogDTO unknownStatus = createTestDogDTO();
+        unknownStatus.setStatusId(999L);
+
+        BatchResult createResult = dogBatchService.createDogs(List.of(valid, invalid, unknownStatus));
+
+        assertEquals(1, createResult.getSucceeded());
+        assertEquals(2, createResult.getFailed());
+        assertEquals(BatchItemResult.Status.CREATED, createResult.getResults().get(0).getStatus());
+        assertEquals(BatchItemResult.Status.INVALID, createResult.getResults().get(1).getStatus());
+        assertEquals(BatchItemResult.Status.INVALID, createResult.getResults().get(2).getStatus());
+
+        Long id = createResult.getResults().get(0).getId();
+        createdIds.add(id);
+        assertEquals("Batchy", dogService.getDogById(id).getName());
+
+        DogDTO update = createTestDogDTO();
+        update.setId(id);
+        update.setName("Batchy II");
+        DogDTO missing = createTestDogDTO();
+        missing.setId(Long.MAX_VALUE);
+
+        BatchResult updated = dogBatchService.updateDogs(List.of(update, missing));
+
+        assertEquals(BatchItemResult.Status.UPDATED, updated.getResults().get(0).getStatus());
+        assertEquals(BatchItemResult.Status.NOT_FOUND, updated.getResults().get(1).getStatus());
+        assertEquals("Batchy II", dogService.getDogById(id).getName());
+    }
+
+    @Test
+    void testBatchUpdatesPublishTheWrittenVersions() {
+        Long id = create(createTestDogDTO()).getId();
+        DogDTO first = createTestDogDTO();
+        first.setId(id);
+        first.setName("Twice I");
+        DogDTO second = createTestDogDTO();
+        second.setId(id);
+        second.setName("Twice II");
+        long from = dogChangeFeed.latestSequence() + 1;
+
+        dogBatchService.updateDogs(List.of(first, second));
+
+        List<DogChangeFeed.Entry> entries = dogChangeFeed.read(from, 10);
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).json().contains("\"version\":1"));
+        assertTrue(entries.get(1).json().contains("\"version\":2"));
+        assertEquals(2L, dogService.getDogById(id).getVersion());
+    }
+
+    @Test
+    void testBatchUpdatesWithStaleVersionsConflict() {
+        Long id = create(createTestDogDTO()).getId();
+        Long other = create(createTestDogDTO()).getId();
+        DogDTO concurrent = createTestDogDTO();
+        concurrent.setName("Concurrent");
+        dogService.updateDog(id, concurrent);
+
+        DogDTO stale = createTestDogDTO();
+        stale.setId(id);
+        stale.setVersion(0L);
+        stale.setName("Stale");
+        DogDTO current = createTestDogDTO();
+        current.setId(other);
+        current.setVersion(0L);
+        current.setName("Current");
+
+        BatchResult result = dogBatchService.updateDogs(List.of(stale, current));
+
+        assertEquals(BatchItemResult.Status.CONFLICT, result.getResults().get(0).getStatus());
+        assertEquals(BatchItemResult.Status.UPDATED, result.getResults().get(1).getStatus());
+        assertEquals("Concurrent", dogService.getDogById(id).getName());
+        assertEquals("Current", dogService.getDogById(other).getName());
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
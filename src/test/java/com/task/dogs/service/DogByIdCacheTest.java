@@ -0,0 +1,69 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.exception.ResourceNotFoundException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogByIdCacheTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testGetDogByIdIsCachedUntilTheDogChanges() {
+        DogDTO created = create(createTestDogDTO());
+
+        DogDTO first = dogService.getDogById(created.getId());
+        assertSame(first, dogService.getDogById(created.getId()));
+
+        DogDTO renamed = createTestDogDTO();
+        renamed.setName("Cached No More");
+        dogService.updateDog(created.getId(), renamed);
+        assertEquals("Cached No More", dogService.getDogById(created.getId()).getName());
+
+        dogService.deleteDog(created.getId());
+        assertThrows(ResourceNotFoundException.class, () -> dogService.getDogById(created.getId()));
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
@@ -0,0 +1,74 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogChangeFeedTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogChangeFeed dogChangeFeed;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testChangeFeedRecordsCommittedWritesInOrder() {
+        long from = dogChangeFeed.latestSequence() + 1;
+        DogDTO created = create(createTestDogDTO());
+        DogDTO update = createTestDogDTO();
+        update.setName("Rexford");
+        dogService.updateDog(created.getId(), update);
+        dogService.deleteDog(created.getId());
+
+        List<DogChangeFeed.Entry> entries = dogChangeFeed.read(from, 10);
+
+        assertEquals(List.of("created", "updated", "deleted"), entries.stream().map(DogChangeFeed.Entry::name).toList());
+        assertEquals(List.of(from, from + 1, from + 2), entries.stream().map(DogChangeFeed.Entry::sequence).toList());
+        assertTrue(entries.get(1).json().contains("\"name\":\"Rexford\""));
+        assertTrue(dogChangeFeed.read(from + 3, 10).isEmpty());
+        // Ids from before this run (or overwritten in the ring) can't be resumed
+        assertNull(dogChangeFeed.read(1, 10));
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
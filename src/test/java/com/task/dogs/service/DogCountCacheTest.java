@@ -0,0 +1,37 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DogCountCacheTest {
+
+    private final DogCountCache countCache = new DogCountCache(16, new SimpleMeterRegistry());
+
+    @Test
+    void testServesCachedTotalUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(7, countCache.count(DogSearchCriteria.none(), () -> loads.incrementAndGet() + 6));
+        assertEquals(7, countCache.count(DogSearchCriteria.none(), () -> loads.incrementAndGet() + 6));
+        assertEquals(1, loads.get());
+
+        countCache.invalidateAll();
+        assertEquals(8, countCache.count(DogSearchCriteria.none(), () -> loads.incrementAndGet() + 6));
+    }
+
+    @Test
+    void testTotalCountedDuringAWriteIsNotServedAfterIt() {
+        // The write commits (and clears the cache) while the total is being counted
+        assertEquals(5, countCache.count(DogSearchCriteria.none(), () -> {
+            countCache.invalidateAll();
+            return 5;
+        }));
+
+        assertEquals(6, countCache.count(DogSearchCriteria.none(), () -> 6));
+    }
+}
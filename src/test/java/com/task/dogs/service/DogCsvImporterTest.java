@@ -0,0 +1,73 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.ImportReport;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Import batches commit in their own transactions, so this class can't run inside a rolled-back one
+@MicronautTest(transactional = false)
+class DogCsvImporterTest {
+
+    @Inject
+    DogCsvImporter dogCsvImporter;
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogTextIndex textIndex;
+
+    @Inject
+    DogChangeFeed dogChangeFeed;
+
+    @Test
+    void testCsvImportReportsRejectedRowsByLine() throws Exception {
+        String csv = """
+            name,breed,supplier,badge_id,gender,birth_date,date_acquired,status,leaving_date,leaving_reason,kennelling_characteristic
+            Importa,Beagle,Csv Kennels,IMP-1,Female,2020-01-01,2021-01-01,1,,,"Calm, ""steady""\"
+            ,Beagle,Csv Kennels,IMP-2,Male,2020-01-01,2021-01-01,1,,,
+            Importb,Beagle,Csv Kennels,IMP-3,Male,not-a-date,2021-01-01,1,,,
+            Importc,Beagle,Csv Kennels,IMP-4,Male,2020-01-01,2021-01-01,No Such Status,,,
+            """;
+
+        ImportReport report = dogCsvImporter.importCsv(new StringReader(csv));
+
+        assertEquals(4, report.getRowsRead());
+        assertEquals(1, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(3L, 4L, 5L), report.getRejections().stream().map(ImportReport.Rejection::getLine).toList());
+
+        DogDTO imported = dogService.searchDogs("Importa", null, null, Pageable.from(0, 10)).getContent().get(0);
+        assertEquals("Calm, \"steady\"", imported.getKennellingCharacteristic());
+        dogService.deleteDog(imported.getId());
+    }
+
+    @Test
+    void testImportedDogsArePublishedAsCreates() throws Exception {
+        long from = dogChangeFeed.latestSequence() + 1;
+        String csv = """
+            name,breed,supplier,gender,birthDate,dateAcquired,status
+            Feedimport,Pointer,Csv Kennels,Male,2020-01-01,2021-01-01,In Service
+            """;
+
+        assertEquals(1, dogCsvImporter.importCsv(new StringReader(csv)).getImported());
+
+        List<DogChangeFeed.Entry> entries = dogChangeFeed.read(from, 10);
+        assertEquals(1, entries.size());
+        assertEquals("created", entries.get(0).name());
+        assertThat(entries.get(0).json()).contains("\"name\":\"Feedimport\"", "\"statusName\":\"In Service\"");
+
+        long id = dogService.searchDogs("Feedimport", null, null, Pageable.from(0, 10)).getContent().get(0).getId();
+        assertThat(textIndex.find(DogTextIndex.Field.NAME, "feedimport")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(id));
+        dogService.deleteDog(id);
+    }
+}
@@ -0,0 +1,234 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.CursorPage;
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.dto.SlicePage;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.http.MediaType;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Text filters resolve through the search index and totals are cached, both following committed writes
+// only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogSearchTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testListingVersionMovesWhenALateWriteCommits() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicLong lateId = new AtomicLong();
+        // Stamped and positioned before the write below but committed after it, like a lock wait
+        Thread writer = new Thread(() -> transactionOperations.executeWrite(status -> {
+            lateId.set(dogService.createDog(createTestDogDTO()).getId());
+            written.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        writer.start();
+        try {
+            assertTrue(written.await(10, TimeUnit.SECONDS));
+            create(createTestDogDTO());
+            ResourceVersion before = dogService.getListingVersion("/dogs", MediaType.APPLICATION_JSON_TYPE);
+
+            commit.countDown();
+            writer.join(10_000);
+            createdIds.add(lateId.get());
+
+            ResourceVersion after = dogService.getListingVersion("/dogs", MediaType.APPLICATION_JSON_TYPE);
+            assertNotEquals(before.etag(), after.etag());
+            assertEquals(after.etag(), dogService.getListingVersion("/dogs", MediaType.APPLICATION_JSON_TYPE).etag());
+        } finally {
+            commit.countDown();
+            writer.join(10_000);
+        }
+    }
+
+    @Test
+    void testSearchDogsByName() {
+        // Create dogs with different names
+        DogDTO dog1 = createTestDogDTO();
+        dog1.setName("Buddy");
+        create(dog1);
+
+        DogDTO dog2 = createTestDogDTO();
+        dog2.setName("Charlie");
+        create(dog2);
+
+        // Search for "Buddy"
+        Page<DogDTO> results = dogService.searchDogs("Buddy", null, null, Pageable.from(0, 10));
+
+        assertTrue(results.getContent().stream()
+            .anyMatch(d -> d.getName().equals("Buddy")));
+        assertFalse(results.getContent().stream()
+            .anyMatch(d -> d.getName().equals("Charlie")));
+    }
+
+    @Test
+    void testSearchDogsByBreed() {
+        DogDTO dog1 = createTestDogDTO();
+        dog1.setName("Dog1");
+        dog1.setBreed("Beagle");
+        create(dog1);
+
+        DogDTO dog2 = createTestDogDTO();
+        dog2.setName("Dog2");
+        dog2.setBreed("Poodle");
+        create(dog2);
+
+        Page<DogDTO> results = dogService.searchDogs(null, "Beagle", null, Pageable.from(0, 10));
+
+        assertTrue(results.getContent().stream()
+            .anyMatch(d -> d.getBreed().equals("Beagle")));
+    }
+
+    @Test
+    void testSearchDogsBySupplier() {
+        DogDTO dog1 = createTestDogDTO();
+        dog1.setSupplier("ABC Kennels");
+        create(dog1);
+
+        DogDTO dog2 = createTestDogDTO();
+        dog2.setSupplier("XYZ Breeders");
+        create(dog2);
+
+        Page<DogDTO> results = dogService.searchDogs(null, null, "ABC", Pageable.from(0, 10));
+
+        assertTrue(results.getContent().stream()
+            .anyMatch(d -> d.getSupplier().contains("ABC")));
+    }
+
+    @Test
+    void testSubstringSearchFollowsUpdatesAndDeletes() {
+        DogDTO dogDTO = createTestDogDTO();
+        dogDTO.setName("Zephyrine");
+        DogDTO created = create(dogDTO);
+
+        assertEquals(1, dogService.searchDogs("PHYR", null, null, Pageable.from(0, 10)).getContent().size());
+
+        DogDTO renamed = createTestDogDTO();
+        renamed.setName("Quillon");
+        dogService.updateDog(created.getId(), renamed);
+
+        assertTrue(dogService.searchDogs("phyr", null, null, Pageable.from(0, 10)).getContent().isEmpty());
+        assertEquals(1, dogService.searchDogs("uillo", null, null, Pageable.from(0, 10)).getContent().size());
+
+        dogService.deleteDog(created.getId());
+
+        assertTrue(dogService.searchDogs("uillo", null, null, Pageable.from(0, 10)).getContent().isEmpty());
+    }
+
+    @Test
+    void testCursorPaginationVisitsEveryDogOnce() {
+        for (int i = 0; i < 5; i++) {
+            DogDTO dog = createTestDogDTO();
+            dog.setName("Cursor" + i);
+            create(dog);
+        }
+
+        DogSearchCriteria criteria = new DogSearchCriteria("Cursor", null, null);
+        List<Long> seen = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<DogDTO> page = dogService.getDogsByCursor(criteria, Pageable.from(0, 2), after);
+            page.getContent().forEach(d -> seen.add(d.getId()));
+            after = page.getNext();
+        } while (after != null);
+
+        assertEquals(5, seen.size());
+        assertEquals(seen.stream().sorted().toList(), seen);
+    }
+
+    @Test
+    void testSliceReportsHasNextWithoutTotal() {
+        for (int i = 0; i < 3; i++) {
+            DogDTO dog = createTestDogDTO();
+            dog.setName("Slice" + i);
+            create(dog);
+        }
+
+        DogSearchCriteria criteria = new DogSearchCriteria("Slice", null, null);
+        SlicePage<DogDTO> first = dogService.sliceDogs(criteria, Pageable.from(0, 2));
+        SlicePage<DogDTO> second = dogService.sliceDogs(criteria, Pageable.from(1, 2));
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void testCachedTotalIsInvalidatedByWrites() {
+        for (int i = 0; i < 3; i++) {
+            DogDTO dog = createTestDogDTO();
+            dog.setSupplier("Counted Kennels");
+            create(dog);
+        }
+        DogSearchCriteria criteria = new DogSearchCriteria(null, null, "Counted");
+        assertEquals(3, dogService.searchDogs(criteria, Pageable.from(0, 1)).getTotalSize());
+
+        DogDTO extra = createTestDogDTO();
+        extra.setSupplier("Counted Kennels");
+        DogDTO created = create(extra);
+        assertEquals(4, dogService.searchDogs(criteria, Pageable.from(0, 1)).getTotalSize());
+
+        dogService.deleteDog(created.getId());
+        assertEquals(3, dogService.searchDogs(criteria, Pageable.from(0, 1)).getTotalSize());
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
@@ -1,6 +1,9 @@
 package com.task.dogs.service;
 
 import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.exception.BadRequestException;
+import com.task.dogs.exception.ConflictException;
 import com.task.dogs.exception.ResourceNotFoundException;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
@@ -73,6 +76,7 @@ class DogServiceTest {
 
         assertEquals(created.getId(), found.getId());
         assertEquals("Rex", found.getName());
+        assertEquals("In Training", found.getStatusName());
     }
 
     @Test
@@ -101,6 +105,22 @@ class DogServiceTest {
         assertEquals(2L, updated.getStatusId());
     }
 
+    @Test
+    void testUpdateWithStaleVersionConflicts() {
+        DogDTO created = dogService.createDog(createTestDogDTO());
+        assertEquals(0L, created.getVersion());
+
+        DogDTO first = createTestDogDTO();
+        first.setName("First");
+        assertEquals(1L, dogService.updateDog(created.getId(), first, 0L).getVersion());
+
+        DogDTO stale = createTestDogDTO();
+        stale.setName("Stale");
+        assertThrows(ConflictException.class, () -> dogService.updateDog(created.getId(), stale, 0L));
+        assertEquals("First", dogService.getDogById(created.getId()).getName());
+        assertThrows(ResourceNotFoundException.class, () -> dogService.updateDog(99999L, stale, 0L));
+    }
+
     @Test
     void testUpdateNonExistentDog() {
         DogDTO dogDTO = createTestDogDTO();
@@ -129,60 +149,6 @@ class DogServiceTest {
         });
     }
 
-    @Test
-    void testSearchDogsByName() {
-        // Create dogs with different names
-        DogDTO dog1 = createTestDogDTO();
-        dog1.setName("Buddy");
-        dogService.createDog(dog1);
-
-        DogDTO dog2 = createTestDogDTO();
-        dog2.setName("Charlie");
-        dogService.createDog(dog2);
-
-        // Search for "Buddy"
-        Page<DogDTO> results = dogService.searchDogs("Buddy", null, null, Pageable.from(0, 10));
-
-        assertTrue(results.getContent().stream()
-            .anyMatch(d -> d.getName().equals("Buddy")));
-        assertFalse(results.getContent().stream()
-            .anyMatch(d -> d.getName().equals("Charlie")));
-    }
-
-    @Test
-    void testSearchDogsByBreed() {
-        DogDTO dog1 = createTestDogDTO();
-        dog1.setName("Dog1");
-        dog1.setBreed("Beagle");
-        dogService.createDog(dog1);
-
-        DogDTO dog2 = createTestDogDTO();
-        dog2.setName("Dog2");
-        dog2.setBreed("Poodle");
-        dogService.createDog(dog2);
-
-        Page<DogDTO> results = dogService.searchDogs(null, "Beagle", null, Pageable.from(0, 10));
-
-        assertTrue(results.getContent().stream()
-            .anyMatch(d -> d.getBreed().equals("Beagle")));
-    }
-
-    @Test
-    void testSearchDogsBySupplier() {
-        DogDTO dog1 = createTestDogDTO();
-        dog1.setSupplier("ABC Kennels");
-        dogService.createDog(dog1);
-
-        DogDTO dog2 = createTestDogDTO();
-        dog2.setSupplier("XYZ Breeders");
-        dogService.createDog(dog2);
-
-        Page<DogDTO> results = dogService.searchDogs(null, null, "ABC", Pageable.from(0, 10));
-
-        assertTrue(results.getContent().stream()
-            .anyMatch(d -> d.getSupplier().contains("ABC")));
-    }
-
     @Test
     void testCreateDogWithLeavingReason() {
         DogDTO dogDTO = createTestDogDTO();
@@ -196,6 +162,13 @@ class DogServiceTest {
         assertNotNull(result.getLeavingReasonName());
     }
 
+    @Test
+    void testCursorPaginationRejectsMalformedCursor() {
+        assertThrows(BadRequestException.class, () -> {
+            dogService.getDogsByCursor(DogSearchCriteria.none(), Pageable.from(0, 2), "not-a-cursor");
+        });
+    }
+
     private DogDTO createTestDogDTO() {
         DogDTO dogDTO = new DogDTO();
         dogDTO.setName("Rex");
@@ -209,4 +182,4 @@ class DogServiceTest {
         dogDTO.setKennellingCharacteristic("Friendly");
         return dogDTO;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.RosterStats;
+import com.task.dogs.domain.event.DogChangeEvent;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogStatsTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogStats dogStats;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testStatsFollowCreatesUpdatesAndDeletes() {
+        RosterStats before = dogStats.getStats();
+        DogDTO dog = createTestDogDTO();
+        dog.setBreed("Stats Spaniel");
+        dog.setStatusId(1L);
+        DogDTO created = create(dog);
+
+        RosterStats afterCreate = dogStats.getStats();
+        assertEquals(before.getTotal() + 1, afterCreate.getTotal());
+        assertEquals(1L, afterCreate.getByBreed().get("Stats Spaniel"));
+        assertSame(afterCreate, dogStats.getStats());
+
+        DogDTO retired = createTestDogDTO();
+        retired.setBreed("Stats Spaniel");
+        retired.setStatusId(3L);
+        retired.setLeavingReasonId(5L);
+        dogService.updateDog(created.getId(), retired);
+
+        RosterStats afterUpdate = dogStats.getStats();
+        assertEquals(afterCreate.getByStatus().getOrDefault("Retired", 0L) + 1, afterUpdate.getByStatus().get("Retired"));
+        assertEquals(afterCreate.getByStatus().get("In Training") - 1, afterUpdate.getByStatus().getOrDefault("In Training", 0L));
+        assertEquals(afterCreate.getByLeavingReason().getOrDefault("Retired (Re-housed)", 0L) + 1,
+            afterUpdate.getByLeavingReason().get("Retired (Re-housed)"));
+
+        dogService.deleteDog(created.getId());
+
+        RosterStats afterDelete = dogStats.getStats();
+        assertEquals(before.getTotal(), afterDelete.getTotal());
+        assertFalse(afterDelete.getByBreed().containsKey("Stats Spaniel"));
+    }
+
+    @Test
+    void testLateCreatesDoNotOverrideLaterWrites() {
+        // Listeners can see a dog's committed writes in any order; ids far past the table's keep this in memory
+        long id = Long.MAX_VALUE - 1;
+        dogStats.onDogChanged(DogChangeEvent.updated(facets(id, "Late Updated", 1L)));
+        dogStats.onDogChanged(DogChangeEvent.created(facets(id, "Late Created", 0L)));
+        RosterStats afterUpdate = dogStats.getStats();
+        assertEquals(1L, afterUpdate.getByBreed().get("Late Updated"));
+        assertFalse(afterUpdate.getByBreed().containsKey("Late Created"));
+
+        long deletedId = Long.MAX_VALUE - 2;
+        long total = afterUpdate.getTotal();
+        dogStats.onDogChanged(DogChangeEvent.deleted(deletedId));
+        dogStats.onDogChanged(DogChangeEvent.created(facets(deletedId, "Late Deleted", 0L)));
+        RosterStats afterDelete = dogStats.getStats();
+        assertEquals(total, afterDelete.getTotal());
+        assertFalse(afterDelete.getByBreed().containsKey("Late Deleted"));
+
+        dogStats.onDogChanged(DogChangeEvent.deleted(id));
+    }
+
+    private static DogDTO facets(long id, String breed, Long version) {
+        DogDTO dog = new DogDTO();
+        dog.setId(id);
+        dog.setBreed(breed);
+        dog.setSupplier("Stats Kennels");
+        dog.setGender("Female");
+        dog.setStatusId(1L);
+        dog.setVersion(version);
+        return dog;
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
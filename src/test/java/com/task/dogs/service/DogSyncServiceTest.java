@@ -0,0 +1,137 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogField;
+import com.task.dogs.domain.dto.DogSyncPage;
+import com.task.dogs.repository.DogSyncClock;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derived state follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+class DogSyncServiceTest {
+
+    @Inject
+    DogService dogService;
+
+    @Inject
+    DogSyncService dogSyncService;
+
+    @Inject
+    DogBatchService dogBatchService;
+
+    @Inject
+    DogSyncClock syncClock;
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        dogBatchService.deleteDogs(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void testDeltaSyncReturnsChangesAndTombstonesSincePosition() {
+        create(createTestDogDTO());
+        DogSyncToken since = DogSyncToken.after(syncClock.stable(), LocalDateTime.now());
+        DogDTO renamed = create(createTestDogDTO());
+        DogDTO update = createTestDogDTO();
+        update.setName("Synced");
+        dogService.updateDog(renamed.getId(), update);
+        DogDTO removed = create(createTestDogDTO());
+        dogService.deleteDog(removed.getId());
+        long until = syncClock.stable();
+
+        DogSyncPage page = dogSyncService.changesSince(since, until, 100);
+
+        assertFalse(page.isHasMore());
+        assertEquals(List.of(renamed.getId()), page.getChanged().stream().map(DogDTO::getId).toList());
+        assertEquals("Synced", page.getChanged().get(0).getName());
+        assertEquals(List.of(removed.getId()), page.getDeleted());
+
+        DogSyncPage first = dogSyncService.changesSince(since, until, 1);
+        assertTrue(first.isHasMore());
+        DogSyncPage rest = dogSyncService.changesSince(DogSyncToken.decode(first.getNext()), until, 100);
+        assertEquals(List.of(removed.getId()), rest.getDeleted());
+        assertTrue(dogSyncService.changesSince(DogSyncToken.decode(rest.getNext()), until, 100).getChanged().isEmpty());
+    }
+
+    @Test
+    void testDeltaSyncHoldsBackChangesUntilEarlierWritesCommit() throws Exception {
+        DogSyncToken since = DogSyncToken.after(syncClock.stable(), LocalDateTime.now());
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicLong lateId = new AtomicLong();
+        // Reserves its position first but commits last, like a write held up by a lock wait
+        Thread writer = new Thread(() -> transactionOperations.executeWrite(status -> {
+            DogDTO late = createTestDogDTO();
+            late.setName("Late");
+            lateId.set(dogService.createDog(late).getId());
+            written.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        writer.start();
+        try {
+            assertTrue(written.await(10, TimeUnit.SECONDS));
+            DogDTO early = createTestDogDTO();
+            early.setName("Early");
+            DogDTO committed = create(early);
+
+            DogSyncPage held = dogSyncService.changesSince(since, 100, DogField.ALL);
+            assertTrue(held.getChanged().isEmpty(), "a change past an uncommitted write is held back");
+
+            commit.countDown();
+            writer.join(10_000);
+            createdIds.add(lateId.get());
+
+            DogSyncPage page = dogSyncService.changesSince(DogSyncToken.decode(held.getNext()), 100, DogField.ALL);
+            assertEquals(List.of(lateId.get(), committed.getId()), page.getChanged().stream().map(DogDTO::getId).toList());
+        } finally {
+            commit.countDown();
+            writer.join(10_000);
+        }
+    }
+
+    private DogDTO create(DogDTO dog) {
+        DogDTO result = dogService.createDog(dog);
+        createdIds.add(result.getId());
+        return result;
+    }
+
+    private DogDTO createTestDogDTO() {
+        DogDTO dogDTO = new DogDTO();
+        dogDTO.setName("Rex");
+        dogDTO.setBreed("German Shepherd");
+        dogDTO.setSupplier("K9 Kennels");
+        dogDTO.setBadgeId("K9-001");
+        dogDTO.setGender("Male");
+        dogDTO.setBirthDate(LocalDate.of(2020, 5, 15));
+        dogDTO.setDateAcquired(LocalDate.of(2021, 1, 10));
+        dogDTO.setStatusId(1L);
+        dogDTO.setKennellingCharacteristic("Friendly");
+        return dogDTO;
+    }
+}
@@ -0,0 +1,106 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.dto.DogDTO;
+import com.task.dogs.domain.dto.DogSearchCriteria;
+import com.task.dogs.domain.event.DogChangeEvent;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The index follows committed writes only, so writes here aren't rolled back; each test deletes its dogs
+@MicronautTest(transactional = false)
+@Property(name = "dogs.search.max-candidates", value = "3")
+class DogTextIndexTest {
+
+    @Inject
+    DogTextIndex textIndex;
+
+    @Inject
+    DogService dogService;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedDogs() {
+        created.forEach(dogService::deleteDog);
+        created.clear();
+    }
+
+    @Test
+    void testMatchesIgnoreTheDefaultLocale() {
+        Long id = createDog("IRIS");
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertThat(textIndex.find(DogTextIndex.Field.NAME, "Iris")).hasValueSatisfying(ids -> assertThat(ids).contains(id));
+            assertThat(textIndex.find(DogTextIndex.Field.NAME, "IRI")).hasValueSatisfying(ids -> assertThat(ids).contains(id));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testMatchesOverTheCandidateCapFallBackToSql() {
+        for (int i = 0; i < 4; i++) {
+            createDog("Quillon " + i);
+        }
+
+        assertTrue(textIndex.find(DogTextIndex.Field.NAME, "quillon").isEmpty());
+        assertThat(textIndex.find(DogTextIndex.Field.NAME, "quillon 2")).hasValueSatisfying(ids -> assertEquals(1, ids.length));
+
+        List<DogDTO> found = dogService.searchDogs(new DogSearchCriteria("QUILLON", null, null), Pageable.from(0, 10)).getContent();
+        assertThat(found).extracting(DogDTO::getId).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    void testOutOfOrderEventsKeepTheNewestText() {
+        // Listeners can see a dog's committed writes in any order; ids far past the table's keep this in memory
+        long id = Long.MAX_VALUE - 1;
+        textIndex.onDogChanged(DogChangeEvent.updated(indexed(id, "Zephyrnewer", 2L)));
+        textIndex.onDogChanged(DogChangeEvent.updated(indexed(id, "Zephyrolder", 1L)));
+        assertThat(textIndex.find(DogTextIndex.Field.NAME, "zephyrnewer")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(id));
+        assertThat(textIndex.find(DogTextIndex.Field.NAME, "zephyrolder")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+
+        long deletedId = Long.MAX_VALUE - 2;
+        textIndex.onDogChanged(DogChangeEvent.deleted(deletedId));
+        textIndex.onDogChanged(DogChangeEvent.created(indexed(deletedId, "Zephyrgone", 0L)));
+        assertThat(textIndex.find(DogTextIndex.Field.NAME, "zephyrgone")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+
+        textIndex.onDogChanged(DogChangeEvent.deleted(id));
+    }
+
+    private static DogDTO indexed(long id, String name, Long version) {
+        DogDTO dog = new DogDTO();
+        dog.setId(id);
+        dog.setName(name);
+        dog.setBreed("Vizsla");
+        dog.setSupplier("Text Index Kennels");
+        dog.setVersion(version);
+        return dog;
+    }
+
+    private Long createDog(String name) {
+        DogDTO dog = new DogDTO();
+        dog.setName(name);
+        dog.setBreed("Vizsla");
+        dog.setSupplier("Text Index Kennels");
+        dog.setGender("Female");
+        dog.setBirthDate(LocalDate.of(2021, 3, 1));
+        dog.setDateAcquired(LocalDate.of(2022, 3, 1));
+        dog.setStatusId(1L);
+        Long id = dogService.createDog(dog).getId();
+        created.add(id);
+        return id;
+    }
+}
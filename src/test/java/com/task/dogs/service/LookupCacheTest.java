@@ -0,0 +1,43 @@
+package com.task.dogs.service;
+
+import com.task.dogs.domain.entity.DogStatus;
+import com.task.dogs.repository.DogStatusRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.MediaType;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest
+@Property(name = "dogs.lookups.refresh-interval", value = "1h")
+class LookupCacheTest {
+
+    @Inject
+    LookupCache lookupCache;
+
+    @Inject
+    DogStatusRepository statusRepository;
+
+    @Test
+    void testResolvesSeededLookups() {
+        assertEquals("In Training", lookupCache.findStatus(1L).orElseThrow().getStatusName());
+        assertEquals("Transferred", lookupCache.findReason(1L).orElseThrow().getReasonName());
+        assertTrue(lookupCache.findStatus(999L).isEmpty());
+        assertTrue(lookupCache.findReason(null).isEmpty());
+    }
+
+    @Test
+    void testMissesDoNotReloadWithinTheRefreshInterval() {
+        LookupCache.Payload before = lookupCache.getStatusesPayload(MediaType.APPLICATION_JSON_TYPE);
+        DogStatus added = statusRepository.save(new DogStatus(null, "On Loan"));
+
+        assertTrue(lookupCache.findStatus(added.getId()).isEmpty());
+        assertSame(before, lookupCache.getStatusesPayload(MediaType.APPLICATION_JSON_TYPE));
+
+        lookupCache.refresh();
+        assertEquals("On Loan", lookupCache.findStatus(added.getId()).orElseThrow().getStatusName());
+        assertNotEquals(before.etag(), lookupCache.getStatusesPayload(MediaType.APPLICATION_JSON_TYPE).etag());
+    }
+}